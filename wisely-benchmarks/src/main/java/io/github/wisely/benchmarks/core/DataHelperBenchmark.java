@@ -0,0 +1,123 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.data.helper.DataHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataHelper 数值转换基准
+ * <p>
+ * legacy* 为 NumberScanner 引入前的实现（new BigDecimal 优先，失败后每次新建 DecimalFormat），用于对比；
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class DataHelperBenchmark {
+
+    @Param({"12345", "-1234.56", "1,234,567.89", "abc"})
+    public String text;
+
+    private final Integer boxed = 12345;
+
+
+    /* ==================== 当前实现 ==================== */
+
+    @Benchmark
+    public Integer getInt() {
+        return DataHelper.getInt(text, 0);
+    }
+
+    @Benchmark
+    public int getIntValue() {
+        return DataHelper.getIntValue(text, 0);
+    }
+
+    @Benchmark
+    public Long getLong() {
+        return DataHelper.getLong(text, 0L);
+    }
+
+    @Benchmark
+    public double getDoubleValue() {
+        return DataHelper.getDoubleValue(text, 0D);
+    }
+
+    @Benchmark
+    public BigDecimal getBigDecimal() {
+        return DataHelper.getBigDecimal(text, null);
+    }
+
+    @Benchmark
+    public int getIntValueFromNumber() {
+        return DataHelper.getIntValue(boxed, 0);
+    }
+
+
+    /* ==================== 原实现 ==================== */
+
+    @Benchmark
+    public Integer legacyGetInt() {
+        BigDecimal bd = legacyToBigDecimal(text);
+        return bd != null ? Integer.valueOf(bd.intValue()) : Integer.valueOf(0);
+    }
+
+    @Benchmark
+    public BigDecimal legacyGetBigDecimal() {
+        return legacyToBigDecimal(text);
+    }
+
+    @Benchmark
+    public Integer legacyGetIntFromNumber() {
+        BigDecimal bd = legacyToBigDecimal(boxed);
+        return bd != null ? Integer.valueOf(bd.intValue()) : Integer.valueOf(0);
+    }
+
+    private static BigDecimal legacyToBigDecimal(Object value) {
+        switch (value) {
+            case null -> {
+                return null;
+            }
+            case BigDecimal bigDecimal -> {
+                return bigDecimal;
+            }
+            case Number number -> {
+                return new BigDecimal(number.toString());
+            }
+            case String s -> {
+                String str = s.trim();
+                if (str.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return new BigDecimal(str);
+                } catch (NumberFormatException ignore) {
+                    // 继续尝试 DecimalFormat
+                }
+                try {
+                    DecimalFormat df = new DecimalFormat();
+                    df.setParseBigDecimal(true);
+                    return (BigDecimal) df.parse(str);
+                } catch (ParseException ex) {
+                    return null;
+                }
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends DataHelperBenchmark {
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.data.helper.DateHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateHelper 解析/格式化基准
+ * <p>
+ * text 覆盖 DateHelper.FORMAT_PATTERNS 的每一种格式（顺序一致），越靠后的格式在旧实现中尝试次数越多；
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class DateHelperBenchmark {
+
+    @Param({
+            "2025-04-05 14:30:25",
+            "2025/04/05 14:30:25",
+            "2025-04-05 14:30",
+            "2025/04/05 14:30",
+            "2025-04-05",
+            "2025/04/05",
+            "20250405143025",
+            "202504051430",
+            "20250405",
+            "2025-04-05 14:30:25.111",
+            "2025/04/05 14:30:25.111",
+            "20250405143025111",
+            "2025-04-05T14:30:25",
+            "2025-04-05T14:30:25.111",
+            "2025-04-05T14:30:25.111+0800",
+            "2025-04-05T14:30:25.111+08:00",
+            "2025-04",
+            "2025/04",
+            "202504",
+            "14:30:25",
+            "143025",
+            "14:30"
+    })
+    public String text;
+
+
+    @Benchmark
+    public Date getDate() {
+        return DateHelper.getDate(text);
+    }
+
+    @Benchmark
+    public LocalDateTime getLocalDateTime() {
+        return DateHelper.getLocalDateTime(text);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends DateHelperBenchmark {
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.wisely.benchmarks.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.wisely.core.data.helper.JsonHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonHelper 序列化/反序列化往返基准（单个对象、100 个元素的列表）
+ * <p>
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class JsonHelperBenchmark {
+
+    private static final TypeReference<List<SampleOrder>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private SampleOrder order;
+
+    private List<SampleOrder> list;
+
+    private String orderJson;
+
+    private byte[] orderBytes;
+
+    private String listJson;
+
+    @Setup
+    public void setup() {
+        order = SampleOrder.of(1);
+        list = SampleOrder.list(100);
+        orderJson = JsonHelper.obj2Json(order);
+        orderBytes = JsonHelper.obj2JsonBytes(order);
+        listJson = JsonHelper.obj2Json(list);
+    }
+
+
+    @Benchmark
+    public String obj2Json() {
+        return JsonHelper.obj2Json(order);
+    }
+
+    @Benchmark
+    public byte[] obj2JsonBytes() {
+        return JsonHelper.obj2JsonBytes(order);
+    }
+
+    @Benchmark
+    public SampleOrder json2Obj() {
+        return JsonHelper.json2Obj(orderJson, SampleOrder.class);
+    }
+
+    @Benchmark
+    public SampleOrder json2ObjFromBytes() {
+        return JsonHelper.json2Obj(orderBytes, SampleOrder.class);
+    }
+
+    @Benchmark
+    public String listToJson() {
+        return JsonHelper.obj2Json(list);
+    }
+
+    @Benchmark
+    public List<SampleOrder> jsonToList() {
+        return JsonHelper.json2Obj(listJson, LIST_TYPE);
+    }
+
+    @Benchmark
+    public SampleOrder roundTrip() {
+        return JsonHelper.json2Obj(JsonHelper.obj2Json(order), SampleOrder.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> copyToMap() {
+        return JsonHelper.copyTo(order, Map.class);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends JsonHelperBenchmark {
+    }
+}
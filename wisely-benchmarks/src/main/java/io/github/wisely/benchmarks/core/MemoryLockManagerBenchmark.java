@@ -0,0 +1,66 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.lock.MemoryLockManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemoryLockManager 加锁/解锁基准
+ * <p>
+ * keys 为参与竞争的 key 数量，1 为全部线程争抢同一把锁；
+ * {@link Concurrent} 以全部可用核心并发运行，衡量竞争下的吞吐
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class MemoryLockManagerBenchmark {
+
+    @Param({"1", "16", "1024"})
+    public int keys;
+
+    private MemoryLockManager lockManager;
+
+    private String[] keyNames;
+
+    @Setup
+    public void setup() {
+        lockManager = new MemoryLockManager();
+        keyNames = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "lock:order:" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Owner {
+
+        public final String name = "owner-" + Thread.currentThread().threadId();
+    }
+
+
+    @Benchmark
+    public boolean tryLockAndUnlock(Owner owner) {
+        String key = keyNames[ThreadLocalRandom.current().nextInt(keys)];
+        if (lockManager.tryLock(key, 30, owner.name)) {
+            return lockManager.unlock(key, owner.name);
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean tryLock(Owner owner) {
+        // 锁过期前只有首个线程成功，其余为失败路径
+        return lockManager.tryLock(keyNames[ThreadLocalRandom.current().nextInt(keys)], 30, owner.name);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends MemoryLockManagerBenchmark {
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.data.getter.PojoProxy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PojoProxy 属性读写基准
+ * <p>
+ * name / amount 走编译后的访问器，tags[0] 为嵌套路径，走 BeanWrapper；
+ * PojoProxy 非线程安全，每个线程持有独立实例，{@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+public class PojoProxyBenchmark {
+
+    @Param({"name", "amount", "tags[0]"})
+    public String field;
+
+    private SampleOrder order;
+
+    private PojoProxy proxy;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        order = SampleOrder.of(1);
+        proxy = PojoProxy.proxy(order);
+        value = proxy.get(field);
+    }
+
+
+    @Benchmark
+    public Object get() {
+        return proxy.get(field);
+    }
+
+    @Benchmark
+    public PojoProxy set() {
+        return proxy.set(field, value);
+    }
+
+    @Benchmark
+    public Object proxyAndGet() {
+        return PojoProxy.proxy(order).get(field);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends PojoProxyBenchmark {
+    }
+}
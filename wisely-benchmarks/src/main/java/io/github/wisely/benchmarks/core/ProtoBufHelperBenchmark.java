@@ -0,0 +1,89 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.data.helper.ProtoBufHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProtoBufHelper 序列化/反序列化基准
+ * <p>
+ * list* 为包装类方式，typedList* 为指定元素类型的编码；
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ProtoBufHelperBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private SampleOrder order;
+
+    private List<SampleOrder> list;
+
+    private byte[] orderBytes;
+
+    private byte[] listBytes;
+
+    private byte[] typedListBytes;
+
+    @Setup
+    public void setup() {
+        order = SampleOrder.of(1);
+        list = SampleOrder.list(size);
+        orderBytes = ProtoBufHelper.serialize(order);
+        listBytes = ProtoBufHelper.serialize(list);
+        typedListBytes = ProtoBufHelper.serializeList(list, SampleOrder.class);
+    }
+
+
+    @Benchmark
+    public byte[] serialize() {
+        return ProtoBufHelper.serialize(order);
+    }
+
+    @Benchmark
+    public SampleOrder deserialize() {
+        return ProtoBufHelper.deserialize(SampleOrder.class, orderBytes);
+    }
+
+    @Benchmark
+    public int serializeToStream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        return ProtoBufHelper.serialize(order, out);
+    }
+
+    @Benchmark
+    public byte[] listSerialize() {
+        return ProtoBufHelper.serialize(list);
+    }
+
+    @Benchmark
+    public Object listDeserialize() {
+        return ProtoBufHelper.deserialize(ArrayList.class, listBytes);
+    }
+
+    @Benchmark
+    public byte[] typedListSerialize() {
+        return ProtoBufHelper.serializeList(list, SampleOrder.class);
+    }
+
+    @Benchmark
+    public List<SampleOrder> typedListDeserialize() {
+        return ProtoBufHelper.deserializeList(typedListBytes, SampleOrder.class);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends ProtoBufHelperBenchmark {
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.wisely.benchmarks.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准用 DTO，字段构成接近常见业务对象
+ */
+public class SampleOrder {
+
+    private Long id;
+
+    private String name;
+
+    private int quantity;
+
+    private BigDecimal amount;
+
+    private boolean paid;
+
+    private Long createdAt;
+
+    private List<String> tags;
+
+    public static SampleOrder of(long id) {
+        SampleOrder order = new SampleOrder();
+        order.setId(id);
+        order.setName("order-" + id);
+        order.setQuantity((int) (id % 100));
+        order.setAmount(BigDecimal.valueOf(id * 100 + 99, 2));
+        order.setPaid(id % 2 == 0);
+        order.setCreatedAt(1_743_834_625_000L + id);
+        order.setTags(new ArrayList<>(List.of("vip", "online")));
+        return order;
+    }
+
+    public static List<SampleOrder> list(int size) {
+        List<SampleOrder> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(of(i));
+        }
+        return list;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public boolean isPaid() {
+        return paid;
+    }
+
+    public void setPaid(boolean paid) {
+        this.paid = paid;
+    }
+
+    public Long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.spring.helper.SpELHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpELHelper 表达式求值基准（表达式已缓存，主要衡量上下文创建与求值开销）
+ * <p>
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class SpELHelperBenchmark {
+
+    private final SampleOrder order = SampleOrder.of(1);
+
+    private final Map<String, Object> variables = Map.of("user", "wisely", "quantity", 10);
+
+
+    @Benchmark
+    public String variable() {
+        return SpELHelper.parseExpression("#user", variables, String.class);
+    }
+
+    @Benchmark
+    public Boolean rootProperty() {
+        return SpELHelper.parseExpression("quantity > 0 and paid", order, null, Boolean.class);
+    }
+
+    @Benchmark
+    public String template() {
+        return SpELHelper.parseTemplate("order:#{name}:#{#user}", order, variables);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends SpELHelperBenchmark {
+    }
+}
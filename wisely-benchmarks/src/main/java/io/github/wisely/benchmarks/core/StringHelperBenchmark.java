@@ -0,0 +1,52 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.helper.StringHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringHelper.evaluate 占位符替换基准
+ * <p>
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class StringHelperBenchmark {
+
+    @Param({"0", "1", "8"})
+    public int placeholders;
+
+    private String source;
+
+    private Map<String, Object> params;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("order notify: ");
+        params = new HashMap<>();
+        for (int i = 0; i < placeholders; i++) {
+            sb.append("field").append(i).append('=').append("${key").append(i).append("}, ");
+            params.put("key" + i, "value" + i);
+        }
+        source = sb.append("end").toString();
+    }
+
+
+    @Benchmark
+    public String evaluate() {
+        return StringHelper.evaluate(source, params);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends StringHelperBenchmark {
+    }
+}
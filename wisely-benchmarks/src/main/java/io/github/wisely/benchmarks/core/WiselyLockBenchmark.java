@@ -0,0 +1,90 @@
+package io.github.wisely.benchmarks.core;
+
+import io.github.wisely.core.lock.LockInterceptor;
+import io.github.wisely.core.lock.LockWatchdog;
+import io.github.wisely.core.lock.MemoryLockManager;
+import io.github.wisely.core.lock.WiselyLock;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WiselyLock} 拦截开销基准（锁空闲）
+ * <p>
+ * direct 为未代理的直接调用，其余为经拦截器加解锁后的调用，差值即拦截开销；
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class WiselyLockBenchmark {
+
+    public static class OrderService {
+
+        @WiselyLock(key = "order:#{#p0.id}", ttl = 30)
+        public Long expression(SampleOrder order) {
+            return order.getId();
+        }
+
+        @WiselyLock(key = "order:fixed", ttl = 30)
+        public Long fixed(SampleOrder order) {
+            return order.getId();
+        }
+    }
+
+    private final OrderService target = new OrderService();
+
+    private OrderService proxy;
+
+    private LockWatchdog watchdog;
+
+    @Setup
+    public void setup() {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        watchdog = new LockWatchdog(lockManager);
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvisor(new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, WiselyLock.class, true),
+                new LockInterceptor(() -> lockManager, () -> watchdog, () -> Duration.ofSeconds(30))));
+        proxy = (OrderService) factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        watchdog.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Order {
+
+        public final SampleOrder order = SampleOrder.of(Thread.currentThread().threadId());
+    }
+
+
+    @Benchmark
+    public Long direct(Order order) {
+        return target.expression(order.order);
+    }
+
+    @Benchmark
+    public Long expression(Order order) {
+        return proxy.expression(order.order);
+    }
+
+    @Benchmark
+    public Long fixed(Order order) {
+        return proxy.fixed(order.order);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends WiselyLockBenchmark {
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.wisely.benchmarks.encryption;
+
+import io.github.wisely.encryption.helper.SignHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SignHelper 摘要基准
+ * <p>
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class SignHelperBenchmark {
+
+    @Param({"64", "4096"})
+    public int length;
+
+    private byte[] bytes;
+
+    private String content;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        content = "x".repeat(length);
+    }
+
+
+    @Benchmark
+    public String md5() {
+        return SignHelper.md5(bytes);
+    }
+
+    @Benchmark
+    public String sha256() {
+        return SignHelper.sha256(bytes);
+    }
+
+    @Benchmark
+    public String sha256String() {
+        return SignHelper.sha256(content);
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends SignHelperBenchmark {
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.wisely.benchmarks.web;
+
+import io.github.wisely.core.exception.SystemException;
+import io.github.wisely.web.context.Result;
+import io.github.wisely.web.context.helper.RequestHelper;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Web 基准用应用：一个读取请求参数的接口、一个抛出异常的接口，覆盖
+ * GlobalFilter -&gt; GlobalRequestWrapper -&gt; RequestHelper.getInput -&gt; DefaultExceptionAdvice
+ */
+@SpringBootConfiguration(proxyBeanMethods = false)
+@EnableAutoConfiguration
+@Import(BenchmarkApplication.BenchmarkController.class)
+public class BenchmarkApplication {
+
+    /**
+     * 启动应用（随机端口）
+     *
+     * @param globalFilter 是否启用 GlobalFilter
+     * @param virtual      是否使用虚拟线程处理请求
+     * @return 应用上下文
+     */
+    public static ConfigurableApplicationContext start(boolean globalFilter, boolean virtual) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .logStartupInfo(false)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "plugins.filter.global.enabled=" + globalFilter,
+                        "plugins.exception.enabled=true",
+                        "spring.servlet.multipart.max-file-size=16MB",
+                        "spring.servlet.multipart.max-request-size=16MB",
+                        // 异常日志的开销取决于 appender，不计入基准，避免控制台输出干扰结果
+                        "logging.level.root=WARN",
+                        "logging.level.io.github.wisely.web.exception=OFF")
+                .run();
+    }
+
+
+    @RestController
+    @RequestMapping("/bench")
+    public static class BenchmarkController {
+
+        @PostMapping("/input")
+        public Result<Integer> input() {
+            return Result.ok(RequestHelper.getInput().size());
+        }
+
+        @GetMapping("/error")
+        public Result<Void> error() {
+            throw SystemException.of("benchmark.error");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.wisely.benchmarks.web;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 指定大小的请求体
+ */
+final class Payloads {
+
+    static final String BOUNDARY = "----WiselyBenchmarkBoundary";
+
+    private Payloads() {
+    }
+
+    /**
+     * {"field0":"xxx",...}，约 size 字节
+     */
+    static byte[] json(int size) {
+        StringBuilder sb = new StringBuilder(size + 64).append('{');
+        for (int i = 0; sb.length() < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"field").append(i).append("\":\"").append(value(i)).append('"');
+        }
+        return sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * field0=xxx&amp;...，约 size 字节
+     */
+    static byte[] form(int size) {
+        StringBuilder sb = new StringBuilder(size + 64);
+        for (int i = 0; sb.length() < size; i++) {
+            if (i > 0) {
+                sb.append('&');
+            }
+            sb.append("field").append(i).append('=').append(value(i));
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 一个文本字段 + 一个 size 字节的文件
+     */
+    static byte[] multipart(int size) {
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"name\"\r\n\r\nwisely\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n";
+        String tail = "\r\n--" + BOUNDARY + "--\r\n";
+        byte[] headBytes = head.getBytes(StandardCharsets.US_ASCII);
+        byte[] tailBytes = tail.getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[headBytes.length + size + tailBytes.length];
+        System.arraycopy(headBytes, 0, body, 0, headBytes.length);
+        System.arraycopy(file(size), 0, body, headBytes.length, size);
+        System.arraycopy(tailBytes, 0, body, headBytes.length + size, tailBytes.length);
+        return body;
+    }
+
+    static byte[] file(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        return bytes;
+    }
+
+    private static String value(int i) {
+        return "value-" + i + "-abcdefghijklmnopqrstuvwxyz";
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.wisely.benchmarks.web;
+
+import io.github.wisely.web.context.GlobalFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Web 请求链路基准（MockMvc，不含网络与容器线程调度）
+ * <p>
+ * 衡量 GlobalFilter + GlobalRequestWrapper + RequestHelper.getInput + DefaultExceptionAdvice 的单请求开销，
+ * filter=false 为不经过 GlobalFilter 的对照组。
+ * Throughput 结果 ×1000 即 requests/s，SampleTime 输出 p50/p99 延迟；单请求内存分配使用 -prof gc（gc.alloc.rate.norm）。
+ * {@link Concurrent} 以全部可用核心并发运行同样的用例
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class WebPipelineBenchmark {
+
+    @Param({"true", "false"})
+    public boolean filter;
+
+    @Param({"256", "65536"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private byte[] json;
+
+    private byte[] form;
+
+    private MockMultipartFile file;
+
+    @Setup
+    public void setup() throws Exception {
+        context = BenchmarkApplication.start(false, false);
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context);
+        if (filter) {
+            builder.addFilters(new GlobalFilter());
+        }
+        mockMvc = builder.build();
+        json = Payloads.json(size);
+        form = Payloads.form(size);
+        file = new MockMultipartFile("file", "data.bin", MediaType.APPLICATION_OCTET_STREAM_VALUE, Payloads.file(size));
+
+        // 确认请求体被正确解析，避免测到错误路径
+        for (RequestBuilder request : new RequestBuilder[]{jsonRequest(), formRequest(), multipartRequest()}) {
+            String body = mockMvc.perform(request).andReturn().getResponse().getContentAsString();
+            if (!body.contains("\"data\":") || body.contains("\"data\":0")) {
+                throw new IllegalStateException("Unexpected response: " + body);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+
+    @Benchmark
+    public int json() throws Exception {
+        return perform(jsonRequest());
+    }
+
+    @Benchmark
+    public int form() throws Exception {
+        return perform(formRequest());
+    }
+
+    @Benchmark
+    public int multipart() throws Exception {
+        return perform(multipartRequest());
+    }
+
+    @Benchmark
+    public int exception() throws Exception {
+        return perform(MockMvcRequestBuilders.get("/bench/error"));
+    }
+
+    private RequestBuilder jsonRequest() {
+        return MockMvcRequestBuilders.post("/bench/input").contentType(MediaType.APPLICATION_JSON).content(json);
+    }
+
+    private RequestBuilder formRequest() {
+        return MockMvcRequestBuilders.post("/bench/input").contentType(MediaType.APPLICATION_FORM_URLENCODED).content(form);
+    }
+
+    private RequestBuilder multipartRequest() {
+        return MockMvcRequestBuilders.multipart("/bench/input").file(file).param("name", "wisely");
+    }
+
+    private int perform(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse().getContentLength();
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends WebPipelineBenchmark {
+    }
+}
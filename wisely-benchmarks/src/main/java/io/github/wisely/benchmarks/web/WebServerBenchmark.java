@@ -0,0 +1,126 @@
+package io.github.wisely.benchmarks.web;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Web 请求链路基准（内嵌 Tomcat，localhost HTTP/1.1）
+ * <p>
+ * 在 {@link WebPipelineBenchmark} 的基础上包含网络、Tomcat 解析与容器线程调度，
+ * virtual 切换 spring.threads.virtual.enabled（虚拟线程/平台线程执行器），filter 切换 plugins.filter.global.enabled。
+ * Throughput 结果 ×1000 即 requests/s，SampleTime 输出 p50/p99 延迟；
+ * {@link Concurrent} 以全部可用核心并发发起请求
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class WebServerBenchmark {
+
+    @Param({"true", "false"})
+    public boolean filter;
+
+    @Param({"true", "false"})
+    public boolean virtual;
+
+    @Param({"256", "65536"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private HttpRequest json;
+
+    private HttpRequest form;
+
+    private HttpRequest multipart;
+
+    private HttpRequest exception;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start(filter, virtual);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String base = "http://127.0.0.1:" + port + "/bench";
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        json = post(base + "/input", "application/json", Payloads.json(size));
+        form = post(base + "/input", "application/x-www-form-urlencoded", Payloads.form(size));
+        multipart = post(base + "/input", "multipart/form-data; boundary=" + Payloads.BOUNDARY, Payloads.multipart(size));
+        exception = HttpRequest.newBuilder(URI.create(base + "/error")).GET().build();
+
+        // 确认请求体被正确解析，避免测到错误路径
+        for (HttpRequest request : new HttpRequest[]{json, form, multipart}) {
+            String body = sendForBody(request);
+            if (!body.contains("\"data\":") || body.contains("\"data\":0")) {
+                throw new IllegalStateException("Unexpected response for " + request.headers().firstValue("Content-Type").orElse("") + ": " + body);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    private static HttpRequest post(String uri, String contentType, byte[] body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+
+    @Benchmark
+    public int json() throws IOException, InterruptedException {
+        return send(json);
+    }
+
+    @Benchmark
+    public int form() throws IOException, InterruptedException {
+        return send(form);
+    }
+
+    @Benchmark
+    public int multipart() throws IOException, InterruptedException {
+        return send(multipart);
+    }
+
+    @Benchmark
+    public int exception() throws IOException, InterruptedException {
+        return send(exception);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+
+    private String sendForBody(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    @Threads(Threads.MAX)
+    public static class Concurrent extends WebServerBenchmark {
+    }
+}
@@ -2,6 +2,8 @@ package io.github.wisely.core.data.eum;
 
 import lombok.Getter;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
 public enum Common {
 
@@ -43,7 +45,7 @@ public enum Common {
     /**
      * 带斜杠的日期：2025/04/05
      */
-    DATE_SLASH("yyyy-MM-dd"),
+    DATE_SLASH("yyyy/MM/dd"),
 
     /**
      * 标准时间：14:30:25
@@ -53,8 +55,14 @@ public enum Common {
 
     Common(String pattern) {
         this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
     }
 
     private final String pattern;
 
+    /**
+     * 类加载时预先解析的格式化器（线程安全，可直接使用）
+     */
+    private final DateTimeFormatter formatter;
+
 }
@@ -2,6 +2,8 @@ package io.github.wisely.core.data.eum;
 
 import lombok.Getter;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
 public enum Compact {
     /**
@@ -31,7 +33,13 @@ public enum Compact {
 
     Compact(String pattern) {
         this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
     }
 
     private final String pattern;
+
+    /**
+     * 类加载时预先解析的格式化器（线程安全，可直接使用）
+     */
+    private final DateTimeFormatter formatter;
 }
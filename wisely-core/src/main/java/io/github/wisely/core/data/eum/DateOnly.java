@@ -2,6 +2,8 @@ package io.github.wisely.core.data.eum;
 
 import lombok.Getter;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
 public enum DateOnly {
 
@@ -12,7 +14,13 @@ public enum DateOnly {
 
     private final String pattern;
 
+    /**
+     * 类加载时预先解析的格式化器（线程安全，可直接使用）
+     */
+    private final DateTimeFormatter formatter;
+
     DateOnly(String pattern) {
         this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
     }
 }
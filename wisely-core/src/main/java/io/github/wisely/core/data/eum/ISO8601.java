@@ -2,6 +2,8 @@ package io.github.wisely.core.data.eum;
 
 import lombok.Getter;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
 public enum ISO8601 {
 
@@ -28,7 +30,13 @@ public enum ISO8601 {
 
     private final String pattern;
 
+    /**
+     * 类加载时预先解析的格式化器（线程安全，可直接使用）
+     */
+    private final DateTimeFormatter formatter;
+
     ISO8601(String pattern) {
         this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
     }
 }
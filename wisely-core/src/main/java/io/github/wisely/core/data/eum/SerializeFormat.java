@@ -0,0 +1,45 @@
+package io.github.wisely.core.data.eum;
+
+import lombok.Getter;
+
+/**
+ * 序列化格式，header 为序列化结果的首字节，用于读取时自动识别格式
+ */
+@Getter
+public enum SerializeFormat {
+    /**
+     * Jackson JSON（UTF-8）
+     */
+    JSON((byte) 1),
+
+    /**
+     * Protostuff 二进制
+     */
+    PROTOSTUFF((byte) 2),
+
+    /**
+     * Protostuff 二进制 + Deflate 压缩
+     */
+    PROTOSTUFF_DEFLATE((byte) 3);
+
+    SerializeFormat(byte header) {
+        this.header = header;
+    }
+
+    private final byte header;
+
+    /**
+     * 根据首字节识别格式
+     *
+     * @param header 首字节
+     * @return 格式，无法识别时返回 null
+     */
+    public static SerializeFormat of(byte header) {
+        return switch (header) {
+            case 1 -> JSON;
+            case 2 -> PROTOSTUFF;
+            case 3 -> PROTOSTUFF_DEFLATE;
+            default -> null;
+        };
+    }
+}
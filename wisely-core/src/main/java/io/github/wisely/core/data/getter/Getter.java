@@ -172,6 +172,31 @@ public interface Getter<K, V> {
     }
 
 
+    /**
+     * 获取int型属性值（原始类型，不装箱）<br>
+     * 若获得的值为不可见字符，使用默认值
+     *
+     * @param key          属性名
+     * @param defaultValue 默认值
+     * @return 属性值，无对应值返回defaultValue
+     */
+    default int getIntValue(K key, int defaultValue) {
+        return DataHelper.getIntValue(get(key), defaultValue);
+    }
+
+
+    /**
+     * 获取int型属性值（原始类型，不装箱）<br>
+     * 无值或获取错误返回0
+     *
+     * @param key 属性名
+     * @return 属性值
+     */
+    default int getIntValue(K key) {
+        return this.getIntValue(key, 0);
+    }
+
+
     /**
      * 获取long型属性值<br>
      * 若获得的值为不可见字符，使用默认值
@@ -198,6 +223,31 @@ public interface Getter<K, V> {
     }
 
 
+    /**
+     * 获取long型属性值（原始类型，不装箱）<br>
+     * 若获得的值为不可见字符，使用默认值
+     *
+     * @param key          属性名
+     * @param defaultValue 默认值
+     * @return 属性值，无对应值返回defaultValue
+     */
+    default long getLongValue(K key, long defaultValue) {
+        return DataHelper.getLongValue(get(key), defaultValue);
+    }
+
+
+    /**
+     * 获取long型属性值（原始类型，不装箱）<br>
+     * 无值或获取错误返回0
+     *
+     * @param key 属性名
+     * @return 属性值
+     */
+    default long getLongValue(K key) {
+        return this.getLongValue(key, 0L);
+    }
+
+
     /**
      * 获取float型属性值<br>
      * 若获得的值为不可见字符，使用默认值
@@ -250,6 +300,31 @@ public interface Getter<K, V> {
     }
 
 
+    /**
+     * 获取double型属性值（原始类型，不装箱）<br>
+     * 若获得的值为不可见字符，使用默认值
+     *
+     * @param key          属性名
+     * @param defaultValue 默认值
+     * @return 属性值，无对应值返回defaultValue
+     */
+    default double getDoubleValue(K key, double defaultValue) {
+        return DataHelper.getDoubleValue(get(key), defaultValue);
+    }
+
+
+    /**
+     * 获取double型属性值（原始类型，不装箱）<br>
+     * 无值或获取错误返回0
+     *
+     * @param key 属性名
+     * @return 属性值
+     */
+    default double getDoubleValue(K key) {
+        return this.getDoubleValue(key, 0D);
+    }
+
+
     /**
      * 获取bigint型属性值<br>
      * 若获得的值为不可见字符，使用默认值
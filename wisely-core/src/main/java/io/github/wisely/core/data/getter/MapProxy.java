@@ -113,7 +113,7 @@ public record MapProxy<K, V>(Map<K, V> map) implements Getter<K, V> {
      */
     @Nonnull
     public <T> T toPojo(Class<T> clazz) {
-        return JsonHelper.copyTo(this, clazz);
+        return JsonHelper.copyTo(map, clazz);
     }
 
     @Override
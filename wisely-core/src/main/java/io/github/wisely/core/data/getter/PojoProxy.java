@@ -17,27 +17,34 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 /**
- * 基于 Spring BeanWrapper 的 Pojo 属性代理
+ * Pojo 属性代理
  * 支持：嵌套路径、自动创建对象、类型转换、属性变更监听
+ * <p>
+ * 默认使用 {@link PropertyAccessors} 编译缓存的访问器，仅在路径无法编译（如 hobbies[1]）时退回 Spring BeanWrapper
  */
 public class PojoProxy implements Getter<String, Object> {
 
     private final Object target;
-    private final BeanWrapper wrapper;
+
+    /**
+     * 延迟创建，仅在路径无法编译时使用
+     */
+    private BeanWrapper wrapper;
 
     // 【新增】监听器列表
     private final List<Consumer<PropertyChangeEvent>> listeners = new ArrayList<>();
 
     private PojoProxy(Object target) {
-
         this.target = target;
-        if (ValidHelper.isNull(target)) {
-            this.wrapper = null;
-            return;
-        }
+    }
 
-        this.wrapper = PropertyAccessorFactory.forBeanPropertyAccess(target);
-        ((BeanWrapperImpl) this.wrapper).setConversionService(DefaultConversionService.getSharedInstance());
+    private BeanWrapper getWrapper() {
+        if (this.wrapper == null) {
+            BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(target);
+            ((BeanWrapperImpl) beanWrapper).setConversionService(DefaultConversionService.getSharedInstance());
+            this.wrapper = beanWrapper;
+        }
+        return this.wrapper;
     }
 
     @Override
@@ -47,8 +54,12 @@ public class PojoProxy implements Getter<String, Object> {
             return null;
         }
 
+        PropertyAccessor accessor = PropertyAccessors.getAccessor(target.getClass(), fieldName);
         try {
-            return wrapper.getPropertyValue(fieldName);
+            if (accessor != null) {
+                return accessor.get(target);
+            }
+            return getWrapper().getPropertyValue(fieldName);
         } catch (NullValueInNestedPathException e) {
             return null;
         } catch (Exception ex) {
@@ -65,7 +76,16 @@ public class PojoProxy implements Getter<String, Object> {
             return this;
         }
 
+        PropertyAccessor accessor = PropertyAccessors.getAccessor(target.getClass(), fieldName);
         try {
+            if (accessor != null && accessor.isWritable()) {
+                Object oldValue = accessor.get(target);
+                accessor.set(target, value);
+                firePropertyChanged(fieldName, oldValue, accessor.get(target));
+                return this;
+            }
+
+            BeanWrapper wrapper = getWrapper();
             // 开启自动创建中间对象（user.address.city 中的 address 自动 new）
             wrapper.setAutoGrowNestedPaths(true);
 
@@ -0,0 +1,46 @@
+package io.github.wisely.core.data.getter;
+
+/**
+ * 属性访问器<br>
+ * 由 {@link PropertyAccessors} 按 class + 属性路径 编译生成，可安全地被多线程共享
+ *
+ * @author wisely-man
+ * @since 2.0.0
+ */
+public interface PropertyAccessor {
+
+    /**
+     * 读取属性值<br>
+     * 嵌套路径中任一中间对象为 null 时返回 null
+     *
+     * @param target 目标对象
+     * @return 属性值
+     */
+    Object get(Object target);
+
+
+    /**
+     * 设置属性值<br>
+     * 嵌套路径中的 null 中间对象会自动创建，值会按属性类型自动转换
+     *
+     * @param target 目标对象
+     * @param value  属性值
+     */
+    void set(Object target, Object value);
+
+
+    /**
+     * 是否可写（路径最后一级存在 setter）
+     *
+     * @return true-可写，false-只读
+     */
+    boolean isWritable();
+
+
+    /**
+     * 属性路径
+     *
+     * @return 属性路径，如 user.address.city
+     */
+    String getPath();
+}
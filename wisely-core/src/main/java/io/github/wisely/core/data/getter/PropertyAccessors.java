@@ -0,0 +1,303 @@
+package io.github.wisely.core.data.getter;
+
+import io.github.wisely.core.helper.StringHelper;
+import jakarta.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.Property;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 属性访问器引擎
+ * <p>
+ * 按 class + 属性路径 编译并缓存 getter/setter，优先使用 LambdaMetafactory 生成直接调用，
+ * 无法生成时退化为 MethodHandle。嵌套路径（如 user.address.city）只编译一次，生成访问链。
+ * </p>
+ * <p>
+ * 仅支持由 "." 分隔的简单属性路径；含索引（hobbies[1]）、Map key 或无法解析的路径返回 null，
+ * 由调用方退回 BeanWrapper 处理。
+ * </p>
+ *
+ * @author wisely-man
+ * @since 2.0.0
+ */
+@UtilityClass
+@Slf4j
+public class PropertyAccessors {
+
+    /**
+     * 类型转换服务，与 PojoProxy 中 BeanWrapper 使用的保持一致
+     */
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    /**
+     * 无法编译的路径占位，避免重复尝试
+     */
+    private static final PropertyAccessor UNSUPPORTED = new CompiledAccessor("", new Segment[0]);
+
+    /**
+     * 访问器缓存：class -> (path -> accessor)
+     */
+    private static final Map<Class<?>, Map<String, PropertyAccessor>> ACCESSOR_CACHE = new ConcurrentHashMap<>();
+
+
+    /**
+     * 获取指定类型、路径的属性访问器
+     *
+     * @param clazz 目标类型
+     * @param path  属性路径，如 user.address.city
+     * @return 属性访问器，路径无法编译时返回 null
+     */
+    @Nullable
+    public static PropertyAccessor getAccessor(Class<?> clazz, String path) {
+        if (clazz == null || StringHelper.isBlank(path)) {
+            return null;
+        }
+
+        PropertyAccessor accessor = ACCESSOR_CACHE
+                .computeIfAbsent(clazz, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(path, p -> compile(clazz, p));
+        return accessor == UNSUPPORTED ? null : accessor;
+    }
+
+
+    /**
+     * 清空缓存（用于热部署等类重新加载的场景）
+     */
+    public static void clear() {
+        ACCESSOR_CACHE.clear();
+    }
+
+
+    /* ==================== 编译 ==================== */
+
+    private static PropertyAccessor compile(Class<?> clazz, String path) {
+        if (!isSimplePath(path)) {
+            return UNSUPPORTED;
+        }
+
+        String[] names = StringHelper.split(path, '.');
+        Segment[] segments = new Segment[names.length];
+        Class<?> current = clazz;
+        try {
+            for (int i = 0; i < names.length; i++) {
+                Segment segment = compileSegment(current, names[i]);
+                if (segment == null) {
+                    return UNSUPPORTED;
+                }
+                segments[i] = segment;
+                current = segment.type();
+            }
+        } catch (Throwable e) {
+            log.debug("PropertyAccessors compile failed, class: {}, path: {}", clazz.getName(), path, e);
+            return UNSUPPORTED;
+        }
+        return new CompiledAccessor(path, segments);
+    }
+
+    private static boolean isSimplePath(String path) {
+        if (path.startsWith(".") || path.endsWith(".") || path.contains("..")) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c != '.' && !Character.isJavaIdentifierPart(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Segment compileSegment(Class<?> clazz, String name) throws Throwable {
+        PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(clazz, name);
+        if (pd == null || pd.getReadMethod() == null) {
+            return null;
+        }
+
+        Method readMethod = pd.getReadMethod();
+        Method writeMethod = pd.getWriteMethod();
+        TypeDescriptor descriptor = new TypeDescriptor(new Property(clazz, readMethod, writeMethod, name));
+
+        return new Segment(name, pd.getPropertyType(), descriptor,
+                buildGetter(readMethod), writeMethod == null ? null : buildSetter(writeMethod));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> buildGetter(Method method) throws Throwable {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookup(method);
+        MethodHandle handle = lookup.unreflect(method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(method.getReturnType()), owner));
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            // 跨模块、隐藏类受限等场景，退化为 MethodHandle 调用
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return target -> {
+                try {
+                    return generic.invokeExact(target);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> buildSetter(Method method) throws Throwable {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookup(method);
+        MethodHandle handle = lookup.unreflect(method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, owner,
+                            ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (target, value) -> {
+                try {
+                    generic.invokeExact(target, value);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * 获取可访问方法所在类的 Lookup<br>
+     * 优先 privateLookupIn（支持非 public 的类），失败时使用 publicLookup
+     */
+    private static MethodHandles.Lookup lookup(Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            if (Modifier.isPublic(method.getDeclaringClass().getModifiers()) && Modifier.isPublic(method.getModifiers())) {
+                return MethodHandles.publicLookup();
+            }
+            throw e;
+        }
+    }
+
+
+    /* ==================== 访问链 ==================== */
+
+    /**
+     * 单级属性
+     *
+     * @param name       属性名
+     * @param type       属性声明类型
+     * @param descriptor 属性类型描述（含泛型），用于类型转换
+     * @param getter     读方法
+     * @param setter     写方法，只读属性为 null
+     */
+    private record Segment(String name,
+                           Class<?> type,
+                           TypeDescriptor descriptor,
+                           Function<Object, Object> getter,
+                           BiConsumer<Object, Object> setter) {
+
+        Object read(Object target) {
+            return getter.apply(target);
+        }
+
+        void write(Object target, Object value) {
+            if (setter == null) {
+                throw new IllegalStateException("Property [" + name + "] is not writable");
+            }
+            setter.accept(target, convert(value));
+        }
+
+        private Object convert(Object value) {
+            if (value == null) {
+                if (type.isPrimitive()) {
+                    throw new IllegalArgumentException("Cannot set null to primitive property [" + name + "]");
+                }
+                return null;
+            }
+            if (ClassUtils.resolvePrimitiveIfNecessary(type).isInstance(value)) {
+                return value;
+            }
+            return CONVERSION_SERVICE.convert(value, TypeDescriptor.forObject(value), descriptor);
+        }
+    }
+
+    /**
+     * 编译后的访问链
+     */
+    private static final class CompiledAccessor implements PropertyAccessor {
+
+        private final String path;
+        private final Segment[] segments;
+
+        private CompiledAccessor(String path, Segment[] segments) {
+            this.path = path;
+            this.segments = segments;
+        }
+
+        @Override
+        public Object get(Object target) {
+            Object current = target;
+            for (Segment segment : segments) {
+                if (current == null) {
+                    return null;
+                }
+                current = segment.read(current);
+            }
+            return current;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            Object current = target;
+            int last = segments.length - 1;
+            for (int i = 0; i < last; i++) {
+                Segment segment = segments[i];
+                Object next = segment.read(current);
+                if (next == null) {
+                    // 自动创建中间对象（user.address.city 中的 address 自动 new）
+                    next = BeanUtils.instantiateClass(segment.type());
+                    segment.write(current, next);
+                }
+                current = next;
+            }
+            segments[last].write(current, value);
+        }
+
+        @Override
+        public boolean isWritable() {
+            return segments.length > 0 && segments[segments.length - 1].setter() != null;
+        }
+
+        @Override
+        public String getPath() {
+            return path;
+        }
+    }
+}
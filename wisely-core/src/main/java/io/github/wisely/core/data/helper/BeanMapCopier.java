@@ -0,0 +1,323 @@
+package io.github.wisely.core.data.helper;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotationMap;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.util.Annotations;
+import io.github.wisely.core.data.getter.PropertyAccessor;
+import io.github.wisely.core.data.getter.PropertyAccessors;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * POJO 与 Map 之间的直接复制
+ * <p>
+ * 对"简单 POJO"（无 Jackson 注解、使用默认 Bean 序列化/反序列化器、属性均为 String/数值/布尔等标量）
+ * 按 Jackson 解析出的属性名与顺序生成编译后的访问器，POJO &lt;=&gt; Map 直接读写属性，不经过 token 化；
+ * 结果与 ObjectMapper.convertValue 一致。不满足条件的类型或值返回 null，由调用方退回 convertValue。
+ * </p>
+ */
+@Slf4j
+final class BeanMapCopier {
+
+    private static final Map<Class<?>, BeanMapCopier> CACHE = new ConcurrentHashMap<>();
+
+    private static final BeanMapCopier UNSUPPORTED = new BeanMapCopier(null, null, null);
+
+    /**
+     * 可直接复制的属性类型（convertValue 对这些类型不做转换）
+     */
+    private static final Set<Class<?>> SCALAR_TYPES = Set.of(
+            String.class, Boolean.class, Integer.class, Long.class, Double.class, BigDecimal.class, BigInteger.class);
+
+    private static final Object NO_MATCH = new Object();
+
+    /**
+     * 序列化属性（POJO => Map），不支持时为 null
+     */
+    private final Property[] readers;
+
+    /**
+     * 反序列化属性（Map => POJO），不支持时为 null
+     */
+    private final Map<String, Property> writers;
+
+    private final Constructor<?> constructor;
+
+    private BeanMapCopier(Property[] readers, Map<String, Property> writers, Constructor<?> constructor) {
+        this.readers = readers;
+        this.writers = writers;
+        this.constructor = constructor;
+    }
+
+
+    /**
+     * 尝试直接复制
+     *
+     * @param mapper ObjectMapper
+     * @param value  源对象
+     * @param type   目标类型
+     * @return 复制结果，不支持直接复制时返回 null
+     */
+    @Nullable
+    static Object copy(ObjectMapper mapper, Object value, JavaType type) {
+        if (value instanceof Map<?, ?> map) {
+            if (type.isContainerType() || type.isAbstract() || type.hasGenericTypes()
+                    || ClassUtils.isPrimitiveOrWrapper(type.getRawClass()) || type.getRawClass().getName().startsWith("java.")) {
+                return null;
+            }
+            return of(mapper, type.getRawClass()).fromMap(map);
+        }
+        if (isObjectMap(type) && !(value instanceof Collection) && !value.getClass().isArray()
+                && !value.getClass().getName().startsWith("java.")) {
+            return of(mapper, value.getClass()).toMap(value);
+        }
+        return null;
+    }
+
+    /**
+     * 清空缓存（ObjectMapper 变更时调用）
+     */
+    static void clear() {
+        CACHE.clear();
+    }
+
+    private static BeanMapCopier of(ObjectMapper mapper, Class<?> clazz) {
+        return CACHE.computeIfAbsent(clazz, k -> build(mapper, k));
+    }
+
+    /**
+     * Map / LinkedHashMap / Map&lt;String, Object&gt;
+     */
+    private static boolean isObjectMap(JavaType type) {
+        Class<?> raw = type.getRawClass();
+        if (raw != Map.class && raw != LinkedHashMap.class) {
+            return false;
+        }
+        JavaType key = type.getKeyType();
+        JavaType content = type.getContentType();
+        return (key == null || key.getRawClass() == Object.class || key.getRawClass() == String.class)
+                && (content == null || content.getRawClass() == Object.class);
+    }
+
+
+    /* ==================== 复制 ==================== */
+
+    @Nullable
+    private Map<String, Object> toMap(Object pojo) {
+        if (readers == null) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(16, readers.length * 4 / 3 + 1));
+        for (Property property : readers) {
+            map.put(property.name, property.accessor.get(pojo));
+        }
+        return map;
+    }
+
+    @Nullable
+    private Object fromMap(Map<?, ?> map) {
+        if (writers == null) {
+            return null;
+        }
+
+        // 先校验全部键值，存在未知属性或需要类型转换的值时整体退回 convertValue
+        Object[] values = new Object[map.size()];
+        Property[] properties = new Property[map.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Property property = entry.getKey() instanceof String key ? writers.get(key) : null;
+            if (property == null) {
+                return null;
+            }
+            Object value = entry.getValue();
+            if (value == null) {
+                if (property.type.isPrimitive()) {
+                    return null;
+                }
+            } else {
+                value = coerce(value, property.boxed);
+                if (value == NO_MATCH) {
+                    return null;
+                }
+            }
+            properties[i] = property;
+            values[i++] = value;
+        }
+
+        Object pojo = BeanUtils.instantiateClass(constructor);
+        for (int j = 0; j < i; j++) {
+            properties[j].accessor.set(pojo, values[j]);
+        }
+        return pojo;
+    }
+
+    /**
+     * 仅处理结果与 Jackson 一致的无损转换
+     */
+    private static Object coerce(Object value, Class<?> boxed) {
+        if (value.getClass() == boxed) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            long l = ((Number) value).longValue();
+            if (boxed == Long.class) {
+                return l;
+            }
+            if (boxed == Double.class) {
+                return (double) l;
+            }
+            if (boxed == BigDecimal.class) {
+                return BigDecimal.valueOf(l);
+            }
+            if (boxed == BigInteger.class) {
+                return BigInteger.valueOf(l);
+            }
+        }
+        return NO_MATCH;
+    }
+
+
+    /* ==================== 构建 ==================== */
+
+    private static BeanMapCopier build(ObjectMapper mapper, Class<?> clazz) {
+        try {
+            Property[] readers = buildReaders(mapper, clazz);
+            Constructor<?> constructor = findConstructor(mapper, clazz);
+            Map<String, Property> writers = constructor == null ? null : buildWriters(mapper, clazz);
+            if (readers == null && writers == null) {
+                return UNSUPPORTED;
+            }
+            return new BeanMapCopier(readers, writers, writers == null ? null : constructor);
+        } catch (Exception e) {
+            log.debug("BeanMapCopier build failed, class: {}", clazz.getName(), e);
+            return UNSUPPORTED;
+        }
+    }
+
+    @Nullable
+    private static Property[] buildReaders(ObjectMapper mapper, Class<?> clazz) throws Exception {
+        SerializationConfig config = mapper.getSerializationConfig();
+        if (config.isEnabled(SerializationFeature.WRAP_ROOT_VALUE) || config.getActiveView() != null) {
+            return null;
+        }
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(clazz).getValueInclusion();
+        if (inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS) {
+            return null;
+        }
+        if (mapper.getSerializerProviderInstance().findValueSerializer(clazz).getClass() != BeanSerializer.class) {
+            return null;
+        }
+
+        BeanDescription description = config.introspect(mapper.constructType(clazz));
+        if (hasJacksonAnnotation(description.getClassInfo())) {
+            return null;
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (BeanPropertyDefinition definition : description.findProperties()) {
+            if (!definition.hasGetter()) {
+                return null;
+            }
+            Property property = property(clazz, definition, definition.getGetter().getRawType());
+            if (property == null) {
+                return null;
+            }
+            properties.add(property);
+        }
+        return properties.toArray(new Property[0]);
+    }
+
+    @Nullable
+    private static Constructor<?> findConstructor(ObjectMapper mapper, Class<?> clazz) throws Exception {
+        DeserializationConfig config = mapper.getDeserializationConfig();
+        if (config.isEnabled(DeserializationFeature.UNWRAP_ROOT_VALUE) || config.getActiveView() != null) {
+            return null;
+        }
+
+        DeserializationContext context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(config, null, null);
+        JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(mapper.constructType(clazz));
+        if (deserializer.getClass() != BeanDeserializer.class) {
+            return null;
+        }
+        ValueInstantiator instantiator = ((BeanDeserializer) deserializer).getValueInstantiator();
+        if (!instantiator.canCreateUsingDefault() || instantiator.canCreateFromObjectWith()) {
+            return null;
+        }
+
+        AnnotatedConstructor constructor = config.introspect(mapper.constructType(clazz)).findDefaultConstructor();
+        return constructor == null ? null : constructor.getAnnotated();
+    }
+
+    @Nullable
+    private static Map<String, Property> buildWriters(ObjectMapper mapper, Class<?> clazz) {
+        DeserializationConfig config = mapper.getDeserializationConfig();
+        BeanDescription description = config.introspect(mapper.constructType(clazz));
+        if (hasJacksonAnnotation(description.getClassInfo())) {
+            return null;
+        }
+
+        Map<String, Property> properties = new HashMap<>();
+        for (BeanPropertyDefinition definition : description.findProperties()) {
+            if (!definition.hasSetter()) {
+                return null;
+            }
+            Property property = property(clazz, definition, definition.getSetter().getRawParameterType(0));
+            if (property == null || !property.accessor.isWritable()) {
+                return null;
+            }
+            properties.put(property.name, property);
+        }
+        return Map.copyOf(properties);
+    }
+
+    @Nullable
+    private static Property property(Class<?> clazz, BeanPropertyDefinition definition, Class<?> type) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (!SCALAR_TYPES.contains(boxed)
+                || hasJacksonAnnotation(definition.getGetter())
+                || hasJacksonAnnotation(definition.getSetter())
+                || hasJacksonAnnotation(definition.getField())) {
+            return null;
+        }
+        PropertyAccessor accessor = PropertyAccessors.getAccessor(clazz, definition.getInternalName());
+        return accessor == null ? null : new Property(definition.getName(), type, boxed, accessor);
+    }
+
+    private static boolean hasJacksonAnnotation(@Nullable Annotated annotated) {
+        // 含 mix-in 注解；无注解时为空实现而非 AnnotationMap
+        Annotations annotations = annotated instanceof AnnotatedMember member ? member.getAllAnnotations()
+                : annotated instanceof AnnotatedClass type ? type.getAnnotations() : null;
+        if (!(annotations instanceof AnnotationMap map)) {
+            return false;
+        }
+        for (Annotation annotation : map.annotations()) {
+            if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Property(String name, Class<?> type, Class<?> boxed, PropertyAccessor accessor) {
+    }
+}
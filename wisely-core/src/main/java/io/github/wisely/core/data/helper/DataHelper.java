@@ -1,8 +1,12 @@
 package io.github.wisely.core.data.helper;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.wisely.core.data.helper.NumberScanner.FormatDescriptor;
 import io.github.wisely.core.helper.StringHelper;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Contract;
@@ -39,6 +43,14 @@ public class DataHelper {
      */
     public static BigDecimal TEN_THOUSAND = new BigDecimal("10000");
 
+    /**
+     * 自定义模式的 DecimalFormat 原型缓存：pattern|locale -> DecimalFormat
+     */
+    private static final Cache<@NonNull String, @NonNull DecimalFormat> DECIMAL_FORMAT_CACHE =
+            CacheBuilder.newBuilder()
+                    .maximumSize(256)
+                    .build();
+
 
     /* ==================== 基础类型转换 ==================== */
 
@@ -56,8 +68,25 @@ public class DataHelper {
 
     @Contract("null,_ -> param2")
     public static Byte getByte(Object value, Byte defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Number number -> {
+                return number.byteValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return (byte) NumberScanner.parseLong(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
         BigDecimal bd = toBigDecimal(value);
-        return bd != null ? bd.byteValue() : defaultValue;
+        return bd != null ? Byte.valueOf(bd.byteValue()) : defaultValue;
     }
 
     @Contract("null,_ -> param2")
@@ -69,32 +98,109 @@ public class DataHelper {
 
     @Contract("null,_ -> param2")
     public static Short getShort(Object value, Short defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Number number -> {
+                return number.shortValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return (short) NumberScanner.parseLong(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
         BigDecimal bd = toBigDecimal(value);
-        return bd != null ? bd.shortValue() : defaultValue;
+        return bd != null ? Short.valueOf(bd.shortValue()) : defaultValue;
     }
 
     @Contract("null,_ -> param2")
     public static Integer getInt(Object value, Integer defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Integer i -> {
+                return i;
+            }
+            case Number number -> {
+                return number.intValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return (int) NumberScanner.parseLong(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
         BigDecimal bd = toBigDecimal(value);
-        return bd != null ? bd.intValue() : defaultValue;
+        return bd != null ? Integer.valueOf(bd.intValue()) : defaultValue;
     }
 
     @Contract("null,_ -> param2")
     public static Long getLong(Object value, Long defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Long l -> {
+                return l;
+            }
+            case Number number -> {
+                return number.longValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return NumberScanner.parseLong(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
         BigDecimal bd = toBigDecimal(value);
-        return bd != null ? bd.longValue() : defaultValue;
+        return bd != null ? Long.valueOf(bd.longValue()) : defaultValue;
     }
 
     @Contract("null,_ -> param2")
     public static Float getFloat(Object value, Float defaultValue) {
         BigDecimal bd = toBigDecimal(value);
-        return bd != null ? bd.floatValue() : defaultValue;
+        return bd != null ? Float.valueOf(bd.floatValue()) : defaultValue;
     }
 
     @Contract("null,_ -> param2")
     public static Double getDouble(Object value, Double defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Double d -> {
+                return d;
+            }
+            case Number number -> {
+                return number.doubleValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return NumberScanner.parseDouble(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
         BigDecimal bd = toBigDecimal(value);
-        return bd != null ? bd.doubleValue() : defaultValue;
+        return bd != null ? Double.valueOf(bd.doubleValue()) : defaultValue;
     }
 
     @Contract("null,_ -> param2")
@@ -114,6 +220,98 @@ public class DataHelper {
         return value == null ? defaultValue : value.toString();
     }
 
+    /* ==================== 原始类型转换（不装箱） ==================== */
+
+    /**
+     * 获取int值<br>
+     * Number 直接取值，字符串由 {@link NumberScanner} 直接解析，仅在必要时（超长、科学计数法等）才构建 BigDecimal
+     *
+     * @param value        源对象
+     * @param defaultValue 默认值
+     * @return int值，无法转换时返回defaultValue
+     */
+    public static int getIntValue(Object value, int defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Number number -> {
+                return number.intValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return (int) NumberScanner.parseLong(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
+        BigDecimal bd = toBigDecimal(value);
+        return bd != null ? bd.intValue() : defaultValue;
+    }
+
+    /**
+     * 获取long值<br>
+     * Number 直接取值，字符串由 {@link NumberScanner} 直接解析，仅在必要时（超长、科学计数法等）才构建 BigDecimal
+     *
+     * @param value        源对象
+     * @param defaultValue 默认值
+     * @return long值，无法转换时返回defaultValue
+     */
+    public static long getLongValue(Object value, long defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Number number -> {
+                return number.longValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return NumberScanner.parseLong(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
+        BigDecimal bd = toBigDecimal(value);
+        return bd != null ? bd.longValue() : defaultValue;
+    }
+
+    /**
+     * 获取double值<br>
+     * Number 直接取值，字符串由 {@link NumberScanner} 直接解析，仅在必要时（超长、科学计数法等）才构建 BigDecimal
+     *
+     * @param value        源对象
+     * @param defaultValue 默认值
+     * @return double值，无法转换时返回defaultValue
+     */
+    public static double getDoubleValue(Object value, double defaultValue) {
+        switch (value) {
+            case null -> {
+                return defaultValue;
+            }
+            case Number number -> {
+                return number.doubleValue();
+            }
+            case String s -> {
+                FormatDescriptor fd = fastFormat(s);
+                if (fd != null) {
+                    return NumberScanner.parseDouble(s, fd.grouping(), fd.decimal());
+                }
+            }
+            default -> {
+                return defaultValue;
+            }
+        }
+        BigDecimal bd = toBigDecimal(value);
+        return bd != null ? bd.doubleValue() : defaultValue;
+    }
+
     /* ==================== 集合类型转换 ==================== */
 
     @Nonnull
@@ -155,7 +353,8 @@ public class DataHelper {
      * <p>
      * 支持：Number、String（可带千分位）。
      * <p>
-     * 若需支持本地化/自定义格式，可在此扩展 DecimalFormat。
+     * 字符串优先由 {@link NumberScanner} 直接解析，超长/科学计数法使用 new BigDecimal，
+     * 本地化格式使用按 Locale 缓存的 DecimalFormat 兜底，全程不依赖异常控制流程。
      */
     @Nullable
     private static BigDecimal toBigDecimal(Object value) {
@@ -167,29 +366,38 @@ public class DataHelper {
             case BigDecimal bigDecimal -> {
                 return bigDecimal;
             }
+            case Long l -> {
+                return BigDecimal.valueOf(l);
+            }
+            case Integer i -> {
+                return BigDecimal.valueOf(i);
+            }
             case Number number -> {
                 return new BigDecimal(number.toString());
             }
             case String s -> {
-                String str = s.trim();
-                if (str.isEmpty()) {
-                    return null;
-                }
-
                 /* 普通解析优先（性能更好） */
-                try {
-                    return new BigDecimal(str);
-                } catch (NumberFormatException ignore) {
-                    /* 尝试用 DecimalFormat 解析带千分位等格式 */
+                int kind = NumberScanner.scan(s);
+                if (kind == NumberScanner.INTEGER || kind == NumberScanner.DECIMAL) {
+                    return NumberScanner.parseBigDecimal(s, NumberScanner.NO_GROUPING, '.');
+                }
+                if (kind == NumberScanner.COMPLEX) {
+                    try {
+                        return new BigDecimal(s.trim());
+                    } catch (NumberFormatException ignore) {
+                        /* 指数越界等，继续尝试本地化格式 */
+                    }
                 }
 
-                try {
-                    DecimalFormat df = new DecimalFormat();
-                    df.setParseBigDecimal(true);
-                    return (BigDecimal) df.parse(str);
-                } catch (ParseException ex) {
-                    return null;
+                /* 本地化格式（千分位等） */
+                FormatDescriptor fd = FormatDescriptor.of(Locale.getDefault());
+                kind = fd.scan(s);
+                if (kind == NumberScanner.INTEGER || kind == NumberScanner.DECIMAL) {
+                    return NumberScanner.parseBigDecimal(s, fd.grouping(), fd.decimal());
                 }
+
+                String str = s.trim();
+                return str.isEmpty() ? null : fd.parse(str);
             }
             default -> {
             }
@@ -197,6 +405,42 @@ public class DataHelper {
         return null;
     }
 
+    /**
+     * 获取可由 {@link NumberScanner} 直接解析的格式，需要 BigDecimal 兜底时返回 null
+     *
+     * @param s 字符串
+     * @return 格式描述
+     */
+    @Nullable
+    private static FormatDescriptor fastFormat(String s) {
+        int kind = NumberScanner.scan(s);
+        if (kind == NumberScanner.INTEGER || kind == NumberScanner.DECIMAL) {
+            return FormatDescriptor.STANDARD;
+        }
+        if (kind == NumberScanner.INVALID) {
+            FormatDescriptor fd = FormatDescriptor.of(Locale.getDefault());
+            kind = fd.scan(s);
+            if (kind == NumberScanner.INTEGER || kind == NumberScanner.DECIMAL) {
+                return fd;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取 DecimalFormat（按 pattern + Locale 缓存原型，每次返回副本）
+     *
+     * @param pattern 模式
+     * @param locale  地区
+     * @return DecimalFormat 副本
+     */
+    @Nonnull
+    private static DecimalFormat getDecimalFormat(String pattern, Locale locale) {
+        DecimalFormat prototype = DECIMAL_FORMAT_CACHE.asMap().computeIfAbsent(pattern + "|" + locale.toLanguageTag(),
+                k -> new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale)));
+        return (DecimalFormat) prototype.clone();
+    }
+
 
     /**
      * BigDecimal 相加
@@ -290,9 +534,7 @@ public class DataHelper {
     @Nonnull
     public static String format(Object number, String pattern, Locale locale) {
         BigDecimal t = toBigDecimal(number);
-        DecimalFormat df = new DecimalFormat(pattern);
-        df.setDecimalFormatSymbols(DecimalFormatSymbols.getInstance(locale));
-        return df.format(t);
+        return getDecimalFormat(pattern, locale).format(t);
     }
 
 
@@ -323,8 +565,7 @@ public class DataHelper {
         }
 
         try {
-            DecimalFormat df = new DecimalFormat(pattern);
-            df.setDecimalFormatSymbols(DecimalFormatSymbols.getInstance(locale));
+            DecimalFormat df = getDecimalFormat(pattern, locale);
             // 解析为 Number，再转 BigDecimal
             Number number = df.parse(text.trim());
             return new BigDecimal(number.toString());
@@ -347,13 +588,12 @@ public class DataHelper {
             return null;
         }
 
-        try {
-            NumberFormat nf = NumberFormat.getInstance(locale);
-            Number number = nf.parse(text.trim());
-            return new BigDecimal(number.toString());
-        } catch (ParseException | NumberFormatException e) {
-            return null;
+        FormatDescriptor fd = FormatDescriptor.of(locale);
+        int kind = fd.scan(text);
+        if (kind == NumberScanner.INTEGER || kind == NumberScanner.DECIMAL) {
+            return NumberScanner.parseBigDecimal(text, fd.grouping(), fd.decimal());
         }
+        return fd.parse(text.trim());
     }
 
     /**
@@ -1,11 +1,14 @@
 package io.github.wisely.core.data.helper;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.github.wisely.core.data.eum.*;
 import io.github.wisely.core.data.eum.YearMonth;
 import io.github.wisely.core.helper.StringHelper;
-import io.github.wisely.core.data.eum.*;
 import io.github.wisely.core.exception.eum.CommonExceptionEnum;
 import io.github.wisely.core.helper.ValidHelper;
+import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.DateUtils;
@@ -14,10 +17,12 @@ import java.text.ParseException;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.TemporalUnit;
 import java.util.Date;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * org.apache.commons.lang3.time.DateUtils
@@ -28,14 +33,62 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DateHelper extends DateUtils {
 
 
-    private final static ConcurrentHashMap<String, DateTimeFormatter> FORMATTER_MAP = new ConcurrentHashMap<>();
+    /**
+     * 枚举预置格式：pattern -> formatter（不可变，取自各枚举类加载时解析好的 formatter）
+     */
+    private final static Map<String, DateTimeFormatter> PRESET_FORMATTERS = presetFormatters();
+
+    /**
+     * 自定义格式：有界 LRU，避免任意 pattern 无限增长
+     */
+    private final static Cache<@NonNull String, @NonNull DateTimeFormatter> FORMATTER_CACHE =
+            CacheBuilder.newBuilder()
+                    .maximumSize(256)
+                    .recordStats()
+                    .build();
+
 
+    private static Map<String, DateTimeFormatter> presetFormatters() {
+        Map<String, DateTimeFormatter> map = new HashMap<>();
+        for (Common e : Common.values()) map.putIfAbsent(e.getPattern(), e.getFormatter());
+        for (Compact e : Compact.values()) map.putIfAbsent(e.getPattern(), e.getFormatter());
+        for (DateOnly e : DateOnly.values()) map.putIfAbsent(e.getPattern(), e.getFormatter());
+        for (ISO8601 e : ISO8601.values()) map.putIfAbsent(e.getPattern(), e.getFormatter());
+        for (TimeOnly e : TimeOnly.values()) map.putIfAbsent(e.getPattern(), e.getFormatter());
+        for (YearMonth e : YearMonth.values()) map.putIfAbsent(e.getPattern(), e.getFormatter());
+        return Map.copyOf(map);
+    }
 
-    private static DateTimeFormatter getFormatter(String pattern) {
-        if (!FORMATTER_MAP.containsKey(pattern)) {
-            FORMATTER_MAP.putIfAbsent(pattern, DateTimeFormatter.ofPattern(pattern));
+    /**
+     * 获取格式化器
+     * 枚举预置格式直接返回，其余格式解析后放入有界缓存
+     * 已知格式建议直接使用枚举的 getFormatter()
+     *
+     * @param pattern 格式化字符串
+     * @return DateTimeFormatter
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        DateTimeFormatter formatter = PRESET_FORMATTERS.get(pattern);
+        if (formatter != null) {
+            return formatter;
         }
-        return FORMATTER_MAP.get(pattern);
+
+        formatter = FORMATTER_CACHE.getIfPresent(pattern);
+        if (formatter == null) {
+            // 不使用 Cache.get(loader)，保持非法 pattern 直接抛出 IllegalArgumentException
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            FORMATTER_CACHE.put(pattern, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * 自定义格式缓存统计（命中/未命中次数等，不含枚举预置格式）
+     *
+     * @return CacheStats
+     */
+    public static CacheStats formatterStats() {
+        return FORMATTER_CACHE.stats();
     }
 
 
@@ -49,7 +102,7 @@ public class DateHelper extends DateUtils {
         if (ValidHelper.isNull(date)) {
             return null;
         }
-        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        return ZoneConverter.systemDefault().toLocalDateTime(date.getTime());
     }
 
     /**
@@ -62,7 +115,7 @@ public class DateHelper extends DateUtils {
         if (ValidHelper.isNull(time)) {
             return null;
         }
-        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+        return new Date(ZoneConverter.systemDefault().toEpochMilli(time));
     }
 
 
@@ -76,7 +129,7 @@ public class DateHelper extends DateUtils {
         if (ValidHelper.isNull(time)) {
             return 0L;
         }
-        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return ZoneConverter.systemDefault().toEpochMilli(time);
     }
 
     /**
@@ -89,7 +142,33 @@ public class DateHelper extends DateUtils {
         if (ValidHelper.isNull(time)) {
             return null;
         }
-        return time.atZone(ZoneId.systemDefault()).toInstant().getEpochSecond();
+        return ZoneConverter.systemDefault().toEpochSecond(time);
+    }
+
+    /**
+     * 批量毫秒转LocalDateTime（系统默认时区）
+     *
+     * @param epochMillis 毫秒数组
+     * @return LocalDateTime数组
+     */
+    public static LocalDateTime[] convertMillisToLDT(long[] epochMillis) {
+        if (ValidHelper.isNull(epochMillis)) {
+            return null;
+        }
+        return ZoneConverter.systemDefault().toLocalDateTimes(epochMillis);
+    }
+
+    /**
+     * 批量LocalDateTime转毫秒（系统默认时区）
+     *
+     * @param times LocalDateTime数组，null 元素转换为 0
+     * @return 毫秒数组
+     */
+    public static long[] convertLDTToMillis(LocalDateTime[] times) {
+        if (ValidHelper.isNull(times)) {
+            return null;
+        }
+        return ZoneConverter.systemDefault().toEpochMillis(times);
     }
 
     /**
@@ -99,7 +178,7 @@ public class DateHelper extends DateUtils {
      * @return 格式化后的时间字符串
      */
     public static String format(LocalDateTime time) {
-        return format(time, Common.DATETIME.getPattern());
+        return formatWith(time, Common.DATETIME.getFormatter());
     }
 
     /**
@@ -116,6 +195,20 @@ public class DateHelper extends DateUtils {
         return time.format(getFormatter(pattern));
     }
 
+    /**
+     * 获取指定时间的指定格式
+     *
+     * @param time      LocalDateTime类型日期对象
+     * @param formatter 格式化器，如 Common.DATETIME.getFormatter()
+     * @return 格式化后的时间字符串
+     */
+    public static String formatWith(LocalDateTime time, DateTimeFormatter formatter) {
+        if (ValidHelper.isNull(time) || ValidHelper.isNull(formatter)) {
+            return null;
+        }
+        return time.format(formatter);
+    }
+
 
     /**
      * 获取指定时间的指定格式
@@ -125,7 +218,7 @@ public class DateHelper extends DateUtils {
      * @return 格式化后的时间字符串
      */
     public static String format(Date time) {
-        return format(time, Common.DATETIME.getPattern());
+        return formatWith(time, Common.DATETIME.getFormatter());
     }
 
 
@@ -141,8 +234,21 @@ public class DateHelper extends DateUtils {
             return null;
         }
 
-        LocalDateTime localDateTime = convertDateToLDT(time);
-        return localDateTime == null ? null : localDateTime.format(getFormatter(pattern));
+        return formatWith(convertDateToLDT(time), getFormatter(pattern));
+    }
+
+    /**
+     * 获取指定时间的指定格式
+     *
+     * @param time      Date类型日期对象
+     * @param formatter 格式化器，如 Common.DATETIME.getFormatter()
+     * @return 格式化后的时间字符串
+     */
+    public static String formatWith(Date time, DateTimeFormatter formatter) {
+        if (ValidHelper.isNull(time)) {
+            return null;
+        }
+        return formatWith(convertDateToLDT(time), formatter);
     }
 
 
@@ -164,7 +270,7 @@ public class DateHelper extends DateUtils {
      * @return 当前时间的指定格式字符串
      */
     public static String formatNow() {
-        return formatNow(Common.DATETIME.getPattern());
+        return formatWith(LocalDateTime.now(), Common.DATETIME.getFormatter());
     }
 
     /**
@@ -330,11 +436,21 @@ public class DateHelper extends DateUtils {
 
     /**
      * obj转日期
+     * 字符串先按长度、分隔符嗅探格式直接解析，无法识别时再逐个尝试默认格式
      *
      * @param value 对象
      * @return Date对象
      */
     public static Date getDate(Object value) {
+        if (value instanceof String s) {
+            Temporal temporal = DateSniffer.sniff(s);
+            if (temporal instanceof LocalDateTime localDateTime) {
+                return convertLDTToDate(localDateTime);
+            }
+            if (temporal instanceof OffsetDateTime offsetDateTime) {
+                return Date.from(offsetDateTime.toInstant());
+            }
+        }
         return getDate(value, FORMAT_PATTERNS);
     }
 
@@ -346,6 +462,15 @@ public class DateHelper extends DateUtils {
      * @return LocalDateTime对象
      */
     public static LocalDateTime getLocalDateTime(Object value) {
+        if (value instanceof String s) {
+            Temporal temporal = DateSniffer.sniff(s);
+            if (temporal instanceof LocalDateTime localDateTime) {
+                return localDateTime;
+            }
+            if (temporal instanceof OffsetDateTime offsetDateTime) {
+                return ZoneConverter.systemDefault().toLocalDateTime(offsetDateTime.toInstant().toEpochMilli());
+            }
+        }
         return getLocalDateTime(value, FORMAT_PATTERNS);
     }
 
@@ -637,7 +762,7 @@ public class DateHelper extends DateUtils {
      * @return 指定天开始时间的字符串
      */
     public static String dayStart(Object dateObj, String pattern) {
-        return ValidHelper.isNull(dateObj) ? null : dayStart(getLocalDateTime(dateObj)).format(DateTimeFormatter.ofPattern(pattern));
+        return ValidHelper.isNull(dateObj) ? null : dayStart(getLocalDateTime(dateObj)).format(getFormatter(pattern));
     }
 
     /**
@@ -667,7 +792,7 @@ public class DateHelper extends DateUtils {
      * @return 指定天结束时间的字符串
      */
     public static String dayEnd(Object dateObj, String pattern) {
-        return ValidHelper.isNull(dateObj) ? null : dayEnd(getLocalDateTime(dateObj)).format(DateTimeFormatter.ofPattern(pattern));
+        return ValidHelper.isNull(dateObj) ? null : dayEnd(getLocalDateTime(dateObj)).format(getFormatter(pattern));
     }
 
 }
@@ -0,0 +1,244 @@
+package io.github.wisely.core.data.helper;
+
+import jakarta.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+
+import java.time.*;
+import java.time.temporal.Temporal;
+
+/**
+ * 日期格式嗅探解析
+ * <p>
+ * 按长度、分隔符位置、是否包含 T / Z / 时区偏移 一次性判断 DateHelper 默认格式列表中的格式，
+ * 直接按位解析数字，无需逐个尝试 pattern。
+ * </p>
+ * <p>
+ * 仅处理严格符合格式且字段合法的输入；无法识别（如 2025-4-5）或字段越界（如 2025-02-30，
+ * 原宽松解析会顺延）时返回 null，由调用方退回原有的逐个 pattern 解析，保持结果一致。
+ * 按 ISO 历法解析，而原有解析使用儒略/格里高利混合历法，二者在 1582 年改历前不一致，故年份不大于 1582 时同样返回 null。
+ * </p>
+ */
+@UtilityClass
+class DateSniffer {
+
+    /**
+     * 仅时间格式的默认日期，与 SimpleDateFormat 一致
+     */
+    private static final LocalDate EPOCH_DATE = LocalDate.of(1970, 1, 1);
+
+    /**
+     * 格里高利历启用的年份（1582-10-15），此前的日期交给原有解析
+     */
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+
+    /**
+     * 嗅探并解析
+     *
+     * @param s 日期字符串
+     * @return LocalDateTime（无时区）或 OffsetDateTime（带时区偏移），无法识别返回 null
+     */
+    @Nullable
+    static Temporal sniff(@Nullable String s) {
+        if (s == null) {
+            return null;
+        }
+
+        int len = s.length();
+        if (len < 5 || len > 29) {
+            return null;
+        }
+
+        char c4 = s.charAt(4);
+        if (c4 == '-' || c4 == '/') {
+            return sniffSeparated(s, len, c4);
+        }
+        if (s.charAt(2) == ':') {
+            return sniffTime(s, len);
+        }
+        return sniffCompact(s, len);
+    }
+
+
+    /**
+     * yyyy-MM / yyyy-MM-dd / yyyy-MM-dd HH:mm[:ss[.SSS]] / yyyy-MM-dd'T'HH:mm:ss[.SSS[Z|XXX]]，以及 '/' 分隔形式
+     */
+    @Nullable
+    private static Temporal sniffSeparated(String s, int len, char sep) {
+        int year = digits(s, 0, 4);
+        int month = len >= 7 ? digits(s, 5, 2) : -1;
+        if (year <= 0 || month < 0) {
+            return null;
+        }
+        if (len == 7) {
+            return of(year, month, 1, 0, 0, 0, 0);
+        }
+
+        if (len < 10 || s.charAt(7) != sep) {
+            return null;
+        }
+        int day = digits(s, 8, 2);
+        if (len == 10) {
+            return of(year, month, day, 0, 0, 0, 0);
+        }
+
+        char t = s.charAt(10);
+        boolean iso = t == 'T' && sep == '-';
+        if (!iso && t != ' ') {
+            return null;
+        }
+        if (iso && len != 19 && len != 23 && len != 24 && len != 28 && len != 29) {
+            return null;
+        }
+        if (!iso && len != 16 && len != 19 && len != 23) {
+            return null;
+        }
+
+        if (s.charAt(13) != ':') {
+            return null;
+        }
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        if (len == 16) {
+            return of(year, month, day, hour, minute, 0, 0);
+        }
+
+        if (s.charAt(16) != ':') {
+            return null;
+        }
+        int second = digits(s, 17, 2);
+        if (len == 19) {
+            return of(year, month, day, hour, minute, second, 0);
+        }
+
+        if (s.charAt(19) != '.') {
+            return null;
+        }
+        int millis = digits(s, 20, 3);
+        LocalDateTime local = of(year, month, day, hour, minute, second, millis);
+        if (len == 23 || local == null) {
+            return local;
+        }
+
+        ZoneOffset offset = offset(s, len);
+        return offset == null ? null : OffsetDateTime.of(local, offset);
+    }
+
+    /**
+     * 时区偏移：Z / +0800 / +08:00
+     */
+    @Nullable
+    private static ZoneOffset offset(String s, int len) {
+        char sign = s.charAt(23);
+        if (sign == 'Z') {
+            return len == 24 ? ZoneOffset.UTC : null;
+        }
+        if (sign != '+' && sign != '-') {
+            return null;
+        }
+
+        int hours = digits(s, 24, 2);
+        int minutes;
+        if (len == 28) {
+            minutes = digits(s, 26, 2);
+        } else if (len == 29 && s.charAt(26) == ':') {
+            minutes = digits(s, 27, 2);
+        } else {
+            return null;
+        }
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+        return sign == '+'
+                ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+
+    /**
+     * HH:mm:ss / HH:mm
+     */
+    @Nullable
+    private static Temporal sniffTime(String s, int len) {
+        int hour = digits(s, 0, 2);
+        int minute = digits(s, 3, 2);
+        if (len == 5) {
+            return of(EPOCH_DATE, hour, minute, 0);
+        }
+        if (len == 8 && s.charAt(5) == ':') {
+            return of(EPOCH_DATE, hour, minute, digits(s, 6, 2));
+        }
+        return null;
+    }
+
+    /**
+     * yyyyMM / yyyyMMdd / yyyyMMddHHmm / yyyyMMddHHmmss / yyyyMMddHHmmssSSS
+     */
+    @Nullable
+    private static Temporal sniffCompact(String s, int len) {
+        if (len != 6 && len != 8 && len != 12 && len != 14 && len != 17) {
+            return null;
+        }
+        if (!allDigits(s, len)) {
+            return null;
+        }
+
+        int year = digits(s, 0, 4);
+        int month = digits(s, 4, 2);
+        if (year == 0) {
+            return null;
+        }
+        return switch (len) {
+            case 6 -> of(year, month, 1, 0, 0, 0, 0);
+            case 8 -> of(year, month, digits(s, 6, 2), 0, 0, 0, 0);
+            case 12 -> of(year, month, digits(s, 6, 2), digits(s, 8, 2), digits(s, 10, 2), 0, 0);
+            case 14 -> of(year, month, digits(s, 6, 2), digits(s, 8, 2), digits(s, 10, 2), digits(s, 12, 2), 0);
+            default -> of(year, month, digits(s, 6, 2), digits(s, 8, 2), digits(s, 10, 2), digits(s, 12, 2), digits(s, 14, 3));
+        };
+    }
+
+
+    /* ==================== 内部工具 ==================== */
+
+    @Nullable
+    private static LocalDateTime of(int year, int month, int day, int hour, int minute, int second, int millis) {
+        if (year <= GREGORIAN_CUTOVER_YEAR || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year)) || millis < 0) {
+            return null;
+        }
+        LocalDateTime time = of(LocalDate.of(year, month, day), hour, minute, second);
+        return time == null ? null : time.withNano(millis * 1_000_000);
+    }
+
+    @Nullable
+    private static LocalDateTime of(LocalDate date, int hour, int minute, int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(date, LocalTime.of(hour, minute, second));
+    }
+
+    /**
+     * 读取定长数字
+     *
+     * @return 数值，含非数字字符时返回 -1
+     */
+    private static int digits(String s, int begin, int count) {
+        int value = 0;
+        for (int i = begin; i < begin + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean allDigits(String s, int len) {
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.wisely.core.data.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.wisely.core.exception.SystemException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 顶层 JSON 数组（或以空白 / 换行分隔的顶层 JSON 值序列，如 NDJSON）的增量迭代器
+ * <p>
+ * 基于 JsonParser 逐个元素反序列化，整个数组不会一次性载入内存；
+ * 使用完毕需 close（推荐 try-with-resources），close 只释放解析器，不关闭底层输入流。
+ * </p>
+ *
+ * @param <T> 元素类型
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+
+    private final ObjectReader reader;
+
+    /**
+     * true-顶层值序列，false-顶层数组
+     */
+    private final boolean sequence;
+
+    /**
+     * 当前 token 是否已读取并指向下一个元素的开始
+     */
+    private boolean fetched;
+
+    private boolean finished;
+
+    JsonArrayIterator(JsonParser parser, ObjectReader reader, boolean sequence) {
+        this.parser = parser;
+        this.reader = reader;
+        this.sequence = sequence;
+        // 空输入视为空数组
+        this.finished = parser.currentToken() == null;
+        // 值序列的首个 token 即为第一个元素的开始
+        this.fetched = sequence && !finished;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        if (!fetched) {
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || (!sequence && token == JsonToken.END_ARRAY)) {
+                    finished = true;
+                    return false;
+                }
+            } catch (IOException e) {
+                throw SystemException.of(e, "JsonArrayIterator.hasNext failed");
+            }
+            fetched = true;
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        try {
+            return reader.readValue(parser);
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonArrayIterator.next failed");
+        }
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonArrayIterator.close failed");
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package io.github.wisely.core.data.helper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.wisely.core.exception.SystemException;
+import io.github.wisely.core.exception.eum.CommonExceptionEnum;
+import io.github.wisely.core.helper.StringHelper;
+import io.github.wisely.core.helper.ValidHelper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.lang.Contract;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 指定类型的 JSON 编解码句柄
+ * <p>
+ * 持有预先构建的 ObjectReader / ObjectWriter（创建时即解析根类型的序列化器、反序列化器），
+ * 通过 {@link JsonHelper#codec(Class)} 获取并缓存，线程安全。
+ * 序列化以声明类型为根类型，子类实例只输出声明类型的属性。
+ * </p>
+ *
+ * @param <T> 类型
+ */
+public final class JsonCodec<T> {
+
+    /**
+     * 字节输出缓冲池（不依赖 ThreadLocal，虚拟线程下同样可复用）
+     */
+    private static final ArrayBlockingQueue<Output> BUFFER_POOL =
+            new ArrayBlockingQueue<>(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+
+    /**
+     * 超过该容量的缓冲区不归还，避免偶发大报文长期占用内存
+     */
+    private static final int MAX_POOLED_CAPACITY = 256 * 1024;
+
+    private final JavaType type;
+
+    private final ObjectReader reader;
+
+    private final ObjectWriter writer;
+
+    JsonCodec(ObjectMapper mapper, JavaType type) {
+        this.type = type;
+        this.reader = mapper.readerFor(type);
+        this.writer = mapper.writerFor(type);
+    }
+
+    /**
+     * @return 类型
+     */
+    @Nonnull
+    public JavaType getType() {
+        return type;
+    }
+
+    ObjectReader getReader() {
+        return reader;
+    }
+
+
+    /* ==================== 序列化 ==================== */
+
+    /**
+     * 对象 => json字符串
+     *
+     * @param value 对象
+     * @return json字符串
+     */
+    @Nullable
+    @Contract("!null -> !null; null -> null")
+    public String toJson(@Nullable T value) {
+
+        if (ValidHelper.isNull(value)) {
+            return null;
+        }
+
+        try {
+            return writer.writeValueAsString(value);
+        } catch (IOException e) {
+            throw SystemException.of(e, "json.json_parser_error");
+        }
+    }
+
+    /**
+     * 对象 => json字节数组（UTF-8），写入池化缓冲区后复制结果
+     *
+     * @param value 对象
+     * @return 字节数组
+     */
+    @Nullable
+    @Contract("!null -> !null; null -> null")
+    public byte[] toBytes(@Nullable T value) {
+
+        if (ValidHelper.isNull(value)) {
+            return null;
+        }
+
+        Output output = BUFFER_POOL.poll();
+        if (output == null) {
+            output = new Output();
+        }
+        try {
+            writer.writeValue(output, value);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw SystemException.of(e, "json.json_parser_error");
+        } finally {
+            if (output.capacity() <= MAX_POOLED_CAPACITY) {
+                output.reset();
+                BUFFER_POOL.offer(output);
+            }
+        }
+    }
+
+    /**
+     * 对象 => 输出流（UTF-8），对象为 null 时不写出
+     *
+     * @param value 对象
+     * @param out   输出流，写出后 flush，不关闭
+     */
+    public void write(@Nullable T value, @Nonnull OutputStream out) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(out, "out");
+
+        if (ValidHelper.isNull(value)) {
+            return;
+        }
+
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, value);
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonCodec.write failed");
+        }
+    }
+
+    /**
+     * 对象 => 字符输出流，对象为 null 时不写出
+     *
+     * @param value  对象
+     * @param target 字符输出流，写出后 flush，不关闭
+     */
+    public void write(@Nullable T value, @Nonnull Writer target) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(target, "writer");
+
+        if (ValidHelper.isNull(value)) {
+            return;
+        }
+
+        try (JsonGenerator generator = writer.createGenerator(target)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, value);
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonCodec.write failed");
+        }
+    }
+
+
+    /* ==================== 反序列化 ==================== */
+
+    /**
+     * json字符串 => 对象
+     *
+     * @param json json字符串
+     * @return 对象，空白字符串返回 null
+     */
+    @Nullable
+    @Contract("null -> null")
+    public T fromJson(@Nullable String json) {
+
+        if (StringHelper.isBlank(json)) {
+            return null;
+        }
+
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonHelper.json2Obj failed");
+        }
+    }
+
+    /**
+     * json字节数组 => 对象
+     *
+     * @param json json字节数组
+     * @return 对象，空数组返回 null
+     */
+    @Nullable
+    @Contract("null -> null")
+    public T fromBytes(@Nullable byte[] json) {
+
+        if (ValidHelper.isNull(json) || json.length == 0) {
+            return null;
+        }
+
+        try {
+            return read(reader.createParser(json));
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonHelper.json2Obj failed");
+        }
+    }
+
+    /**
+     * 输入流 => 对象
+     *
+     * @param in 输入流，不关闭
+     * @return 对象，空输入返回 null
+     */
+    @Nullable
+    @Contract("null -> null")
+    public T read(@Nullable InputStream in) {
+
+        if (ValidHelper.isNull(in)) {
+            return null;
+        }
+
+        try {
+            return read(reader.createParser(in));
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonHelper.json2Obj failed");
+        }
+    }
+
+    /**
+     * 从解析器读取单个值，空输入返回 null；读取完毕释放解析器，不关闭底层输入流
+     */
+    @Nullable
+    T read(JsonParser parser) throws IOException {
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        try (parser) {
+            return parser.nextToken() == null ? null : reader.readValue(parser);
+        }
+    }
+
+
+    /**
+     * 可复用的字节输出缓冲区（非线程安全，由缓冲池保证独占）
+     */
+    private static final class Output extends OutputStream {
+
+        private byte[] buf = new byte[1024];
+
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(@Nonnull byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        private void ensureCapacity(int min) {
+            if (min > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, min));
+            }
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package io.github.wisely.core.data.helper;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.wisely.core.data.eum.Common;
 import io.github.wisely.core.exception.SystemException;
 import io.github.wisely.core.exception.eum.CommonExceptionEnum;
@@ -17,12 +21,18 @@ import io.github.wisely.core.helper.ValidHelper;
 import io.github.wisely.core.spring.helper.SpringHelper;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Contract;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.text.SimpleDateFormat;
+import java.util.Collection;
 
 /**
  * JSON转换处理工具类
@@ -33,6 +43,14 @@ public class JsonHelper {
 
     private static ObjectMapper OBJECT_MAPPER;
 
+    /**
+     * 按类型缓存的编解码句柄（ObjectReader / ObjectWriter 预先构建）
+     */
+    private static final Cache<@NonNull JavaType, @NonNull JsonCodec<?>> CODEC_CACHE =
+            CacheBuilder.newBuilder()
+                    .maximumSize(2048)
+                    .build();
+
     static {
         OBJECT_MAPPER = SpringHelper.getBean(ObjectMapper.class);
         if (OBJECT_MAPPER == null) {
@@ -42,6 +60,8 @@ public class JsonHelper {
 
     public static void setObjectMapper(ObjectMapper objectMapper) {
         OBJECT_MAPPER = objectMapper;
+        CODEC_CACHE.invalidateAll();
+        BeanMapCopier.clear();
     }
 
 
@@ -85,11 +105,7 @@ public class JsonHelper {
             return null;
         }
 
-        try {
-            return OBJECT_MAPPER.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            throw SystemException.of(e, "json.json_parser_error");
-        }
+        return runtimeCodec(obj).toJson(obj);
     }
 
     /**
@@ -102,7 +118,16 @@ public class JsonHelper {
     @Nullable
     @Contract("null -> null; !null -> !null")
     public static <T> JsonNode obj2JsonNode(T obj) {
-        return json2Obj(obj2Json(obj), JsonNode.class);
+
+        if (ValidHelper.isNull(obj)) {
+            return null;
+        }
+
+        try {
+            return OBJECT_MAPPER.valueToTree(obj);
+        } catch (IllegalArgumentException e) {
+            throw SystemException.of(e, "json.json_parser_error");
+        }
     }
 
     /**
@@ -122,11 +147,7 @@ public class JsonHelper {
             return null;
         }
 
-        try {
-            return OBJECT_MAPPER.readValue(json, clazz);
-        } catch (IOException e) {
-            throw SystemException.of(e, "JsonHelper.json2Obj failed");
-        }
+        return codec(clazz).fromJson(json);
     }
 
     /**
@@ -146,13 +167,346 @@ public class JsonHelper {
             return null;
         }
 
+        return codec(type).fromJson(json);
+    }
+
+
+    /* ==================== 流式读写（调用方负责关闭流） ==================== */
+
+    /**
+     * 对象 => json字节数组（UTF-8）
+     *
+     * @param obj 源对象
+     * @return 字节数组
+     */
+    @Nullable
+    @Contract("!null -> !null; null -> null")
+    public static byte[] obj2JsonBytes(@Nullable Object obj) {
+
+        if (ValidHelper.isNull(obj)) {
+            return null;
+        }
+
+        return runtimeCodec(obj).toBytes(obj);
+    }
+
+    /**
+     * 对象 => 输出流（UTF-8），对象为 null 时不写出
+     *
+     * @param obj 源对象
+     * @param out 输出流，写出后 flush，不关闭
+     */
+    public static void obj2Json(@Nullable Object obj, @Nonnull OutputStream out) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(out, "out");
+
+        if (ValidHelper.isNull(obj)) {
+            return;
+        }
+
+        runtimeCodec(obj).write(obj, out);
+    }
+
+    /**
+     * 对象 => 字符输出流，对象为 null 时不写出
+     *
+     * @param obj    源对象
+     * @param writer 字符输出流，写出后 flush，不关闭
+     */
+    public static void obj2Json(@Nullable Object obj, @Nonnull Writer writer) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(writer, "writer");
+
+        if (ValidHelper.isNull(obj)) {
+            return;
+        }
+
+        runtimeCodec(obj).write(obj, writer);
+    }
+
+    /**
+     * 输入流 => 对象，空输入返回 null
+     *
+     * @param in    输入流，不关闭
+     * @param clazz 对象类
+     * @param <T>   泛型
+     */
+    @Nullable
+    @Contract("null,_ -> null")
+    public static <T> T json2Obj(@Nullable InputStream in, @Nonnull Class<T> clazz) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+
+        if (ValidHelper.isNull(in)) {
+            return null;
+        }
+
+        return codec(clazz).read(in);
+    }
+
+    /**
+     * 输入流 => 对象，空输入返回 null
+     *
+     * @param in   输入流，不关闭
+     * @param type 对象类型
+     * @param <T>  泛型
+     */
+    @Nullable
+    @Contract("null,_ -> null")
+    public static <T> T json2Obj(@Nullable InputStream in, @Nonnull TypeReference<T> type) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+
+        if (ValidHelper.isNull(in)) {
+            return null;
+        }
+
+        return codec(type).read(in);
+    }
+
+    /**
+     * 字节数组 => 对象，空数组返回 null
+     *
+     * @param json  json字节数组
+     * @param clazz 对象类
+     * @param <T>   泛型
+     */
+    @Nullable
+    @Contract("null,_ -> null")
+    public static <T> T json2Obj(@Nullable byte[] json, @Nonnull Class<T> clazz) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+
+        if (ValidHelper.isNull(json) || json.length == 0) {
+            return null;
+        }
+
+        return codec(clazz).fromBytes(json);
+    }
+
+    /**
+     * 字节数组 => 对象，空数组返回 null
+     *
+     * @param json json字节数组
+     * @param type 对象类型
+     * @param <T>  泛型
+     */
+    @Nullable
+    @Contract("null,_ -> null")
+    public static <T> T json2Obj(@Nullable byte[] json, @Nonnull TypeReference<T> type) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+
+        if (ValidHelper.isNull(json) || json.length == 0) {
+            return null;
+        }
+
+        return codec(type).fromBytes(json);
+    }
+
+    /**
+     * ByteBuffer => 对象，读取 position 到 limit 之间的内容，不改变 buffer 的 position
+     *
+     * @param json  json缓冲区
+     * @param clazz 对象类
+     * @param <T>   泛型
+     */
+    @Nullable
+    @Contract("null,_ -> null")
+    public static <T> T json2Obj(@Nullable ByteBuffer json, @Nonnull Class<T> clazz) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+
+        if (ValidHelper.isNull(json) || !json.hasRemaining()) {
+            return null;
+        }
+
         try {
-            return OBJECT_MAPPER.readValue(json, type);
+            return codec(clazz).read(createParser(json));
         } catch (IOException e) {
             throw SystemException.of(e, "JsonHelper.json2Obj failed");
         }
     }
 
+    /**
+     * ByteBuffer => 对象，读取 position 到 limit 之间的内容，不改变 buffer 的 position
+     *
+     * @param json json缓冲区
+     * @param type 对象类型
+     * @param <T>  泛型
+     */
+    @Nullable
+    @Contract("null,_ -> null")
+    public static <T> T json2Obj(@Nullable ByteBuffer json, @Nonnull TypeReference<T> type) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+
+        if (ValidHelper.isNull(json) || !json.hasRemaining()) {
+            return null;
+        }
+
+        try {
+            return codec(type).read(createParser(json));
+        } catch (IOException e) {
+            throw SystemException.of(e, "JsonHelper.json2Obj failed");
+        }
+    }
+
+    /**
+     * 增量读取顶层 JSON 数组，逐个元素反序列化
+     * <pre>
+     * try (JsonArrayIterator&lt;Foo&gt; it = JsonHelper.iterate(in, Foo.class)) {
+     *     while (it.hasNext()) {
+     *         handle(it.next());
+     *     }
+     * }
+     * </pre>
+     *
+     * @param in    输入流，不关闭
+     * @param clazz 元素类
+     * @param <T>   泛型
+     * @return 迭代器，空输入返回空迭代器
+     */
+    @Nonnull
+    public static <T> JsonArrayIterator<T> iterate(@Nonnull InputStream in, @Nonnull Class<T> clazz) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+        return iterate(in, codec(clazz), false);
+    }
+
+    /**
+     * 增量读取顶层 JSON 数组，逐个元素反序列化
+     *
+     * @param in   输入流，不关闭
+     * @param type 元素类型
+     * @param <T>  泛型
+     * @return 迭代器，空输入返回空迭代器
+     */
+    @Nonnull
+    public static <T> JsonArrayIterator<T> iterate(@Nonnull InputStream in, @Nonnull TypeReference<T> type) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+        return iterate(in, codec(type), false);
+    }
+
+    /**
+     * 增量读取以空白 / 换行分隔的顶层 JSON 值序列（NDJSON、JSON Lines），逐个反序列化
+     *
+     * @param in    输入流，不关闭
+     * @param clazz 元素类
+     * @param <T>   泛型
+     * @return 迭代器，空输入返回空迭代器
+     */
+    @Nonnull
+    public static <T> JsonArrayIterator<T> iterateValues(@Nonnull InputStream in, @Nonnull Class<T> clazz) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+        return iterate(in, codec(clazz), true);
+    }
+
+    /**
+     * 增量读取以空白 / 换行分隔的顶层 JSON 值序列（NDJSON、JSON Lines），逐个反序列化
+     *
+     * @param in   输入流，不关闭
+     * @param type 元素类型
+     * @param <T>  泛型
+     * @return 迭代器，空输入返回空迭代器
+     */
+    @Nonnull
+    public static <T> JsonArrayIterator<T> iterateValues(@Nonnull InputStream in, @Nonnull TypeReference<T> type) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+        return iterate(in, codec(type), true);
+    }
+
+    private static <T> JsonArrayIterator<T> iterate(InputStream in, JsonCodec<T> codec, boolean sequence) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(in, "in");
+
+        JsonParser parser = null;
+        try {
+            parser = OBJECT_MAPPER.createParser(in);
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonToken token = parser.nextToken();
+            if (!sequence && token != null && token != JsonToken.START_ARRAY) {
+                throw SystemException.of("JsonHelper.iterate requires a top-level JSON array, but was " + token);
+            }
+            return new JsonArrayIterator<>(parser, codec.getReader(), sequence);
+        } catch (IOException | RuntimeException e) {
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException ignore) {
+                    // 已有异常抛出，忽略关闭异常
+                }
+            }
+            throw e instanceof RuntimeException re ? re : SystemException.of(e, "JsonHelper.iterate failed");
+        }
+    }
+
+    private static JsonParser createParser(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return OBJECT_MAPPER.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return OBJECT_MAPPER.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
+
+    /* ==================== 编解码句柄 ==================== */
+
+    /**
+     * 获取指定类型的编解码句柄（缓存，ObjectReader / ObjectWriter 只构建一次）
+     * <pre>
+     * private static final JsonCodec&lt;Foo&gt; FOO = JsonHelper.codec(Foo.class);
+     * byte[] bytes = FOO.toBytes(foo);
+     * </pre>
+     *
+     * @param clazz 类型
+     * @param <T>   泛型
+     * @return JsonCodec
+     */
+    @Nonnull
+    public static <T> JsonCodec<T> codec(@Nonnull Class<T> clazz) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+        return codec(OBJECT_MAPPER.constructType(clazz));
+    }
+
+    /**
+     * 获取指定类型的编解码句柄（缓存，ObjectReader / ObjectWriter 只构建一次）
+     *
+     * @param type 类型
+     * @param <T>  泛型
+     * @return JsonCodec
+     */
+    @Nonnull
+    public static <T> JsonCodec<T> codec(@Nonnull TypeReference<T> type) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+        return codec(OBJECT_MAPPER.constructType(type));
+    }
+
+    /**
+     * 预热：提前构建指定类型的编解码句柄，避免首个请求承担序列化器、反序列化器的解析开销
+     *
+     * @param types 类型集合
+     */
+    public static void warmUp(@Nullable Collection<Class<?>> types) {
+        if (ValidHelper.isEmpty(types)) {
+            return;
+        }
+        for (Class<?> type : types) {
+            codec(type);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> JsonCodec<T> codec(JavaType type) {
+        ObjectMapper mapper = OBJECT_MAPPER;
+        return (JsonCodec<T>) CODEC_CACHE.asMap().computeIfAbsent(type, k -> new JsonCodec<>(mapper, k));
+    }
+
+    /**
+     * 以运行时类型为根类型（与 ObjectMapper.writeValue 一致）
+     */
+    @SuppressWarnings("unchecked")
+    private static JsonCodec<Object> runtimeCodec(Object obj) {
+        return (JsonCodec<Object>) codec(obj.getClass());
+    }
 
     /**
      * 复制为指定类型对象
@@ -163,7 +517,8 @@ public class JsonHelper {
      */
     @Contract("null,_ -> null; !null,_ -> !null")
     public static <T> T copyTo(@Nullable Object obj, @Nonnull Class<T> clazz) {
-        return json2Obj(obj2Json(obj), clazz);
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+        return convert(obj, OBJECT_MAPPER.constructType(clazz));
     }
 
 
@@ -176,7 +531,34 @@ public class JsonHelper {
      */
     @Contract("null,_ -> null; !null,_ -> !null")
     public static <T> T copyTo(@Nullable Object obj, @Nonnull TypeReference<T> type) {
-        return json2Obj(obj2Json(obj), type);
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+        return convert(obj, OBJECT_MAPPER.constructType(type));
+    }
+
+    /**
+     * 对象转换：简单 POJO 与 Map 之间直接复制属性，其余通过 convertValue（TokenBuffer）转换，均不生成中间字符串
+     * <p>
+     * 转为 Map 时数值保留原类型：long/Long 属性为 Long、BigDecimal 属性为 BigDecimal、BigInteger 属性为 BigInteger，
+     * 不再像字符串往返那样按数值大小解析为 Integer/Double，依赖 instanceof Double 等判断的调用方需注意。
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T convert(@Nullable Object obj, JavaType type) {
+
+        if (ValidHelper.isNull(obj)) {
+            return null;
+        }
+
+        Object copied = BeanMapCopier.copy(OBJECT_MAPPER, obj, type);
+        if (copied != null) {
+            return (T) copied;
+        }
+
+        try {
+            return OBJECT_MAPPER.convertValue(obj, type);
+        } catch (IllegalArgumentException e) {
+            throw SystemException.of(e, "JsonHelper.copyTo failed");
+        }
     }
 
 
@@ -0,0 +1,126 @@
+package io.github.wisely.core.data.helper;
+
+import io.protostuff.LinkedBuffer;
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Protostuff LinkedBuffer 池
+ * <p>
+ * 按 512B / 4KB / 32KB / 256KB 分级复用，使用无锁队列，不依赖 ThreadLocal，也不使用 synchronized，
+ * 虚拟线程下不会固定载体线程。按类型记录序列化结果大小的滑动平均，据此选择初始分级，
+ * 超出分级时 LinkedBuffer 自动链接新节点，归还时 clear 只保留首节点。
+ * </p>
+ */
+@UtilityClass
+class LinkedBufferPool {
+
+    private static final int[] SIZE_CLASSES = {512, 4 * 1024, 32 * 1024, 256 * 1024};
+
+    /**
+     * 每个分级最多保留的空闲 buffer 数
+     */
+    private static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    @SuppressWarnings("unchecked")
+    private static final ConcurrentLinkedDeque<PooledBuffer>[] IDLE = new ConcurrentLinkedDeque[SIZE_CLASSES.length];
+
+    private static final AtomicInteger[] IDLE_COUNT = new AtomicInteger[SIZE_CLASSES.length];
+
+    /**
+     * 类型 => 序列化大小估算
+     */
+    private static final Map<Object, Estimate> ESTIMATES = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            IDLE[i] = new ConcurrentLinkedDeque<>();
+            IDLE_COUNT[i] = new AtomicInteger();
+        }
+    }
+
+
+    /**
+     * 借出 buffer，使用完毕必须调用 {@link #release}
+     *
+     * @param type        序列化的类型（或其他区分大小分布的键）
+     * @param initialSize 无历史记录时的估算大小
+     * @return PooledBuffer
+     */
+    static PooledBuffer acquire(Object type, int initialSize) {
+        Estimate estimate = ESTIMATES.get(type);
+        int sizeClass = sizeClass(estimate == null ? initialSize : estimate.size);
+
+        PooledBuffer buffer = IDLE[sizeClass].pollFirst();
+        if (buffer == null) {
+            return new PooledBuffer(LinkedBuffer.allocate(SIZE_CLASSES[sizeClass]), sizeClass);
+        }
+        IDLE_COUNT[sizeClass].decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * 归还 buffer
+     *
+     * @param buffer PooledBuffer
+     */
+    static void release(PooledBuffer buffer) {
+        buffer.buffer.clear();
+        int sizeClass = buffer.sizeClass;
+        if (IDLE_COUNT[sizeClass].incrementAndGet() <= MAX_IDLE) {
+            IDLE[sizeClass].offerFirst(buffer);
+        } else {
+            IDLE_COUNT[sizeClass].decrementAndGet();
+        }
+    }
+
+    /**
+     * 记录实际序列化大小（滑动平均，并发下允许少量误差）
+     *
+     * @param type 序列化的类型
+     * @param size 字节数
+     */
+    static void record(Object type, int size) {
+        Estimate estimate = ESTIMATES.get(type);
+        if (estimate == null) {
+            ESTIMATES.putIfAbsent(type, new Estimate(size));
+            return;
+        }
+        estimate.size += (size - estimate.size) >> 3;
+    }
+
+    private static int sizeClass(int size) {
+        for (int i = 0; i < SIZE_CLASSES.length - 1; i++) {
+            if (size <= SIZE_CLASSES[i]) {
+                return i;
+            }
+        }
+        return SIZE_CLASSES.length - 1;
+    }
+
+
+    static final class PooledBuffer {
+
+        final LinkedBuffer buffer;
+
+        final int sizeClass;
+
+        private PooledBuffer(LinkedBuffer buffer, int sizeClass) {
+            this.buffer = buffer;
+            this.sizeClass = sizeClass;
+        }
+    }
+
+    private static final class Estimate {
+
+        volatile int size;
+
+        private Estimate(int size) {
+            this.size = size;
+        }
+    }
+}
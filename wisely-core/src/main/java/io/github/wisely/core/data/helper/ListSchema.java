@@ -0,0 +1,120 @@
+package io.github.wisely.core.data.helper;
+
+import io.protostuff.Input;
+import io.protostuff.Output;
+import io.protostuff.ProtostuffException;
+import io.protostuff.Schema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 指定元素类型的 List Schema
+ * <p>
+ * 字段 1 为元素个数（用于预分配容量），字段 2 为按元素 Schema 写出的重复消息字段，
+ * 字段 3 为 null 元素占位；字段按写出顺序读取，元素顺序保持不变。
+ * 不写出元素的类名，元素按声明类型的 Schema 处理，子类实例只写出声明类型的字段。
+ * </p>
+ *
+ * @param <T> 元素类型
+ */
+final class ListSchema<T> implements Schema<List<T>> {
+
+    private static final int FIELD_SIZE = 1;
+
+    private static final int FIELD_ELEMENT = 2;
+
+    private static final int FIELD_NULL = 3;
+
+    /**
+     * 预分配容量上限，避免异常数据导致过量分配
+     */
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private final Schema<T> elementSchema;
+
+    ListSchema(Schema<T> elementSchema) {
+        this.elementSchema = elementSchema;
+    }
+
+    @Override
+    public String getFieldName(int number) {
+        return switch (number) {
+            case FIELD_SIZE -> "s";
+            case FIELD_ELEMENT -> "e";
+            case FIELD_NULL -> "n";
+            default -> null;
+        };
+    }
+
+    @Override
+    public int getFieldNumber(String name) {
+        return switch (name) {
+            case "s" -> FIELD_SIZE;
+            case "e" -> FIELD_ELEMENT;
+            case "n" -> FIELD_NULL;
+            default -> 0;
+        };
+    }
+
+    @Override
+    public boolean isInitialized(List<T> message) {
+        return true;
+    }
+
+    @Override
+    public List<T> newMessage() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public String messageName() {
+        return "List";
+    }
+
+    @Override
+    public String messageFullName() {
+        return List.class.getName();
+    }
+
+    @Override
+    public Class<? super List<T>> typeClass() {
+        return List.class;
+    }
+
+    @Override
+    public void mergeFrom(Input input, List<T> message) throws IOException {
+        for (int number = input.readFieldNumber(this); number != 0; number = input.readFieldNumber(this)) {
+            switch (number) {
+                case FIELD_SIZE -> {
+                    int size = input.readUInt32();
+                    if (size < 0) {
+                        throw new ProtostuffException("Invalid list size: " + size);
+                    }
+                    if (message instanceof ArrayList<T> list) {
+                        list.ensureCapacity(Math.min(size, MAX_PRESIZE));
+                    }
+                }
+                case FIELD_ELEMENT -> message.add(input.mergeObject(null, elementSchema));
+                case FIELD_NULL -> {
+                    input.readUInt32();
+                    message.add(null);
+                }
+                default -> input.handleUnknownField(number, this);
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(Output output, List<T> message) throws IOException {
+        output.writeUInt32(FIELD_SIZE, message.size(), false);
+        for (T element : message) {
+            if (element == null) {
+                output.writeUInt32(FIELD_NULL, 0, true);
+            } else {
+                output.writeObject(FIELD_ELEMENT, element, elementSchema, true);
+            }
+        }
+    }
+}
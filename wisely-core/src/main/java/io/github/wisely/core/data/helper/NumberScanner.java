@@ -0,0 +1,372 @@
+package io.github.wisely.core.data.helper;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数字扫描器
+ * <p>
+ * 手写的 CharSequence 数字解析，支持可选正负号、千分位分组符、小数点，不抛异常、不创建中间字符串。
+ * 使用方式：先 {@link #scan} 判断类型，再按类型调用 {@link #parseLong} / {@link #parseDouble} / {@link #parseBigDecimal}。
+ * </p>
+ * <p>
+ * 超出 long 精度、科学计数法等场景返回 {@link #COMPLEX}，由调用方退回 BigDecimal 解析；
+ * 其余本地化格式通过按 Locale 缓存的 {@link FormatDescriptor} 处理。
+ * </p>
+ */
+@UtilityClass
+public class NumberScanner {
+
+    /**
+     * 非数字
+     */
+    public static final int INVALID = 0;
+
+    /**
+     * 整数（可带分组符），可直接按 long 解析
+     */
+    public static final int INTEGER = 1;
+
+    /**
+     * 小数（可带分组符），有效数字不超过 18 位
+     */
+    public static final int DECIMAL = 2;
+
+    /**
+     * 合法数字，但需要 BigDecimal 解析（超长、科学计数法）
+     */
+    public static final int COMPLEX = 3;
+
+    /**
+     * 不使用分组符（与 new BigDecimal(String) 语法一致）
+     */
+    public static final char NO_GROUPING = '\0';
+
+    /**
+     * long 可无损容纳的十进制位数
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * double 可精确表示的十进制位数
+     */
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+
+    /* ==================== 扫描 ==================== */
+
+    /**
+     * 按 BigDecimal 语法扫描（无分组符，小数点为 '.'）
+     *
+     * @param cs 字符序列
+     * @return INVALID / INTEGER / DECIMAL / COMPLEX
+     */
+    public static int scan(@Nullable CharSequence cs) {
+        return scan(cs, NO_GROUPING, '.');
+    }
+
+    /**
+     * 扫描字符序列，判断数字类型（首尾空白忽略）
+     *
+     * @param cs       字符序列
+     * @param grouping 分组符，{@link #NO_GROUPING} 表示不允许分组
+     * @param decimal  小数点
+     * @return INVALID / INTEGER / DECIMAL / COMPLEX
+     */
+    public static int scan(@Nullable CharSequence cs, char grouping, char decimal) {
+        if (cs == null) {
+            return INVALID;
+        }
+
+        int end = trimEnd(cs);
+        int i = trimBegin(cs, end);
+        if (i >= end) {
+            return INVALID;
+        }
+
+        char c = cs.charAt(i);
+        if (c == '-' || c == '+') {
+            i++;
+        }
+
+        int significant = 0;
+        boolean digit = false;
+        boolean prevDigit = false;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            c = cs.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (significant > 0 || c != '0') {
+                    significant++;
+                }
+                digit = true;
+                prevDigit = true;
+                continue;
+            }
+
+            if (c == grouping && grouping != NO_GROUPING && !fraction && prevDigit
+                    && i + 1 < end && isDigit(cs.charAt(i + 1))) {
+                // 分组符必须位于整数部分的两个数字之间
+            } else if (c == decimal && !fraction) {
+                fraction = true;
+            } else if ((c == 'e' || c == 'E') && digit && grouping == NO_GROUPING) {
+                return isExponent(cs, i + 1, end) ? COMPLEX : INVALID;
+            } else {
+                return INVALID;
+            }
+            prevDigit = false;
+        }
+
+        if (!digit) {
+            return INVALID;
+        }
+        if (significant > MAX_LONG_DIGITS) {
+            return COMPLEX;
+        }
+        return fraction ? DECIMAL : INTEGER;
+    }
+
+
+    /* ==================== 解析（调用前需 scan 为 INTEGER/DECIMAL） ==================== */
+
+    /**
+     * 解析整数部分，小数部分直接截断（与 BigDecimal.longValue 一致）
+     *
+     * @param cs       字符序列，scan 结果需为 INTEGER 或 DECIMAL
+     * @param grouping 分组符
+     * @param decimal  小数点
+     * @return long值
+     */
+    public static long parseLong(CharSequence cs, char grouping, char decimal) {
+        int end = trimEnd(cs);
+        int i = trimBegin(cs, end);
+        boolean negative = cs.charAt(i) == '-';
+        if (negative || cs.charAt(i) == '+') {
+            i++;
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            char c = cs.charAt(i);
+            if (c == decimal) {
+                break;
+            }
+            if (c != grouping) {
+                value = value * 10 + (c - '0');
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 解析为 double
+     *
+     * @param cs       字符序列，scan 结果需为 INTEGER 或 DECIMAL
+     * @param grouping 分组符
+     * @param decimal  小数点
+     * @return double值
+     */
+    public static double parseDouble(CharSequence cs, char grouping, char decimal) {
+        int end = trimEnd(cs);
+        int i = trimBegin(cs, end);
+        boolean negative = cs.charAt(i) == '-';
+        if (negative || cs.charAt(i) == '+') {
+            i++;
+        }
+
+        long unscaled = 0;
+        int scale = 0;
+        int significant = 0;
+        boolean fraction = false;
+        for (int j = i; j < end; j++) {
+            char c = cs.charAt(j);
+            if (c == decimal) {
+                fraction = true;
+            } else if (c != grouping) {
+                unscaled = unscaled * 10 + (c - '0');
+                if (significant > 0 || c != '0') {
+                    significant++;
+                }
+                if (fraction) {
+                    scale++;
+                }
+            }
+        }
+
+        // 有效数字与 10 的幂均可精确表示时，一次除法即为正确舍入的结果
+        if (significant <= MAX_EXACT_DOUBLE_DIGITS && scale < POWERS_OF_TEN.length) {
+            double value = scale == 0 ? unscaled : unscaled / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+
+        StringBuilder sb = new StringBuilder(end - i + 1);
+        if (negative) {
+            sb.append('-');
+        }
+        for (int j = i; j < end; j++) {
+            char c = cs.charAt(j);
+            if (c == decimal) {
+                sb.append('.');
+            } else if (c != grouping) {
+                sb.append(c);
+            }
+        }
+        return Double.parseDouble(sb.toString());
+    }
+
+    /**
+     * 解析为 BigDecimal（由 unscaled long + scale 直接构建，结果与 new BigDecimal(String) 一致）
+     *
+     * @param cs       字符序列，scan 结果需为 INTEGER 或 DECIMAL
+     * @param grouping 分组符
+     * @param decimal  小数点
+     * @return BigDecimal
+     */
+    @Nonnull
+    public static BigDecimal parseBigDecimal(CharSequence cs, char grouping, char decimal) {
+        int end = trimEnd(cs);
+        int i = trimBegin(cs, end);
+        boolean negative = cs.charAt(i) == '-';
+        if (negative || cs.charAt(i) == '+') {
+            i++;
+        }
+
+        long unscaled = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            char c = cs.charAt(i);
+            if (c == decimal) {
+                fraction = true;
+            } else if (c != grouping) {
+                unscaled = unscaled * 10 + (c - '0');
+                if (fraction) {
+                    scale++;
+                }
+            }
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+
+    /* ==================== 内部工具 ==================== */
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isExponent(CharSequence cs, int i, int end) {
+        if (i < end && (cs.charAt(i) == '-' || cs.charAt(i) == '+')) {
+            i++;
+        }
+        if (i >= end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (!isDigit(cs.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int trimEnd(CharSequence cs) {
+        int end = cs.length();
+        while (end > 0 && cs.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int trimBegin(CharSequence cs, int end) {
+        int begin = 0;
+        while (begin < end && cs.charAt(begin) <= ' ') {
+            begin++;
+        }
+        return begin;
+    }
+
+
+    /* ==================== 本地化格式描述 ==================== */
+
+    /**
+     * 按 Locale 缓存的数字格式描述
+     * <p>
+     * 缓存分组符、小数点，以及一个 DecimalFormat 原型；DecimalFormat 非线程安全，使用时 clone 原型，
+     * 避免每次重新构建 DecimalFormatSymbols 与解析 pattern。
+     * </p>
+     *
+     * @param locale    地区
+     * @param grouping  分组符
+     * @param decimal   小数点
+     * @param prototype DecimalFormat 原型（只读，不可直接使用）
+     */
+    public record FormatDescriptor(Locale locale, char grouping, char decimal, DecimalFormat prototype) {
+
+        private static final Map<Locale, FormatDescriptor> CACHE = new ConcurrentHashMap<>();
+
+        /**
+         * 标准格式：无分组符，小数点为 '.'（与 new BigDecimal(String) 语法一致）
+         */
+        public static final FormatDescriptor STANDARD =
+                new FormatDescriptor(Locale.ROOT, NO_GROUPING, '.', create(Locale.ROOT).prototype());
+
+        /**
+         * 获取指定地区的格式描述
+         *
+         * @param locale 地区
+         * @return 格式描述
+         */
+        @Nonnull
+        public static FormatDescriptor of(@Nonnull Locale locale) {
+            return CACHE.computeIfAbsent(locale, FormatDescriptor::create);
+        }
+
+        private static FormatDescriptor create(Locale locale) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            DecimalFormat prototype = NumberFormat.getInstance(locale) instanceof DecimalFormat df
+                    ? df : new DecimalFormat("#,##0.###", symbols);
+            prototype.setParseBigDecimal(true);
+            return new FormatDescriptor(locale, symbols.getGroupingSeparator(), symbols.getDecimalSeparator(), prototype);
+        }
+
+        /**
+         * 扫描字符序列
+         *
+         * @param cs 字符序列
+         * @return INVALID / INTEGER / DECIMAL / COMPLEX
+         */
+        public int scan(@Nullable CharSequence cs) {
+            return NumberScanner.scan(cs, grouping, decimal);
+        }
+
+        /**
+         * 使用 DecimalFormat 宽松解析（兜底，不抛异常）
+         *
+         * @param text 字符串
+         * @return BigDecimal，失败返回 null
+         */
+        @Nullable
+        public BigDecimal parse(@Nonnull String text) {
+            ParsePosition position = new ParsePosition(0);
+            Number number = ((DecimalFormat) prototype.clone()).parse(text, position);
+            // 无穷大、NaN 等以 Double 返回，不视为合法数字
+            return number instanceof BigDecimal bd && position.getIndex() > 0 ? bd : null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.wisely.core.data.helper;
 
-import io.protostuff.LinkedBuffer;
+import io.github.wisely.core.data.helper.LinkedBufferPool.PooledBuffer;
+import io.github.wisely.core.exception.SystemException;
+import io.github.wisely.core.exception.eum.CommonExceptionEnum;
+import io.protostuff.ByteBufferInput;
+import io.protostuff.ProtobufIOUtil;
 import io.protostuff.ProtostuffIOUtil;
 import io.protostuff.Schema;
 import io.protostuff.runtime.RuntimeSchema;
@@ -8,21 +12,27 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.UtilityClass;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * 基于 Protostuff 的零依赖序列化工具。
  * 线程安全、空指针安全、自动回收 buffer。
+ * buffer 由 {@link LinkedBufferPool} 按类型的历史序列化大小分级复用。
  */
 @UtilityClass
 public final class ProtoBufHelper {
 
     /* ------------ 常量 ------------ */
-    private static final int BUFFER_SIZE = 512;          // 单对象默认 512 B
-    private static final int LIST_BUFFER_SIZE = 64 * 1024; // 列表默认 64 KB
+    private static final int BUFFER_SIZE = 512;          // 单对象初始估算 512 B
+    private static final int LIST_BUFFER_SIZE = 4 * 1024; // 列表初始估算 4 KB，之后按实际大小自适应
 
 
     /**
@@ -31,6 +41,16 @@ public final class ProtoBufHelper {
     @SuppressWarnings("rawtypes")
     private static final Schema<SerializeDeserializeWrapper> WRAPPER_SCHEMA = RuntimeSchema.getSchema(SerializeDeserializeWrapper.class);
 
+    /**
+     * 类型 => Schema 缓存，跳过 RuntimeSchema 的 IdStrategy 查找
+     */
+    private static final Map<Class<?>, Schema<?>> SCHEMA_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 元素类型 => List Schema 缓存
+     */
+    private static final Map<Class<?>, ListSchema<?>> LIST_SCHEMA_CACHE = new ConcurrentHashMap<>();
+
 
     /**
      * 序列化对象
@@ -41,26 +61,45 @@ public final class ProtoBufHelper {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static byte[] serialize(Object obj) {
 
+        Class<?> clazz = obj.getClass();
+        boolean wrapped = isWrapped(clazz);
+        PooledBuffer pooled = LinkedBufferPool.acquire(clazz, wrapped ? LIST_BUFFER_SIZE : BUFFER_SIZE);
+        try {
+            byte[] bytes = wrapped
+                    ? ProtostuffIOUtil.toByteArray(SerializeDeserializeWrapper.builder(obj), WRAPPER_SCHEMA, pooled.buffer)
+                    : ProtostuffIOUtil.toByteArray(obj, (Schema) getSchema(clazz), pooled.buffer);
+            LinkedBufferPool.record(clazz, bytes.length);
+            return bytes;
+        } finally {
+            LinkedBufferPool.release(pooled);
+        }
+    }
+
+    /**
+     * 序列化对象并直接写入输出流（不带长度前缀，与 {@link #serialize(Object)} 的结果一致）
+     *
+     * @param obj 需要序列化的对象
+     * @param out 输出流，不关闭
+     * @return 写出的字节数
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static int serialize(Object obj, OutputStream out) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(out, "out");
 
-        Schema schema;
-        LinkedBuffer buffer = null;
         Class<?> clazz = obj.getClass();
+        boolean wrapped = isWrapped(clazz);
+        PooledBuffer pooled = LinkedBufferPool.acquire(clazz, wrapped ? LIST_BUFFER_SIZE : BUFFER_SIZE);
         try {
-            Object serializeObject = obj;
-            if (clazz.isArray() || Collection.class.isAssignableFrom(clazz)
-                    || Map.class.isAssignableFrom(clazz) || Set.class.isAssignableFrom(clazz)) {//Protostuff 不支持序列化/反序列化数组、集合等对象,特殊处理
-                schema = WRAPPER_SCHEMA;
-                serializeObject = SerializeDeserializeWrapper.builder(obj);
-                buffer = LinkedBuffer.allocate(LIST_BUFFER_SIZE);
-            } else {
-                schema = RuntimeSchema.getSchema(clazz);
-                buffer = LinkedBuffer.allocate(BUFFER_SIZE);
-            }
-            return ProtostuffIOUtil.toByteArray(serializeObject, schema, buffer);
+            int size = wrapped
+                    ? ProtostuffIOUtil.writeTo(out, SerializeDeserializeWrapper.builder(obj), WRAPPER_SCHEMA, pooled.buffer)
+                    : ProtostuffIOUtil.writeTo(out, obj, (Schema) getSchema(clazz), pooled.buffer);
+            LinkedBufferPool.record(clazz, size);
+            return size;
+        } catch (IOException e) {
+            throw SystemException.of(e, "ProtoBufHelper.serialize failed");
         } finally {
-            if (buffer != null) {
-                buffer.clear();
-            }
+            LinkedBufferPool.release(pooled);
         }
     }
 
@@ -73,19 +112,274 @@ public final class ProtoBufHelper {
      * @return 反序列化后的实例对象
      */
     public static <T> T deserialize(Class<T> clazz, byte[] data) {
-        if (clazz.isArray() || Collection.class.isAssignableFrom(clazz)
-                || Map.class.isAssignableFrom(clazz) || Set.class.isAssignableFrom(clazz)) {//Protostuff 不支持序列化/反序列化数组、集合等对象,特殊处理
+        return deserialize(clazz, data, 0, data.length);
+    }
+
+    /**
+     * 反序列化对象，读取至输入流结束
+     *
+     * @param clazz 反序列化后的对象class
+     * @param in    输入流，不关闭
+     * @param <T>   反序列化后的对象类型
+     * @return 反序列化后的实例对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(Class<T> clazz, InputStream in) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(in, "in");
+
+        PooledBuffer pooled = LinkedBufferPool.acquire(clazz, BUFFER_SIZE);
+        try {
+            if (isWrapped(clazz)) {
+                SerializeDeserializeWrapper<T> wrapper = new SerializeDeserializeWrapper<>();
+                ProtostuffIOUtil.mergeFrom(in, wrapper, WRAPPER_SCHEMA, pooled.buffer);
+                return wrapper.getData();
+            }
+            Schema<T> schema = (Schema<T>) getSchema(clazz);
+            T message = schema.newMessage();
+            ProtostuffIOUtil.mergeFrom(in, message, schema, pooled.buffer);
+            return message;
+        } catch (IOException e) {
+            throw SystemException.of(e, "ProtoBufHelper.deserialize failed");
+        } finally {
+            LinkedBufferPool.release(pooled);
+        }
+    }
+
+    /**
+     * 反序列化对象，读取 position 至 limit 之间的内容，不改变 buffer 的 position
+     *
+     * @param clazz 反序列化后的对象class
+     * @param data  数据（支持堆外内存）
+     * @param <T>   反序列化后的对象类型
+     * @return 反序列化后的实例对象
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> T deserialize(Class<T> clazz, ByteBuffer data) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(data, "data");
+
+        if (data.hasArray()) {
+            return deserialize(clazz, data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+
+        ByteBufferInput input = new ByteBufferInput(data.slice(), true);
+        try {
+            if (isWrapped(clazz)) {
+                SerializeDeserializeWrapper<T> wrapper = new SerializeDeserializeWrapper<>();
+                ((Schema) WRAPPER_SCHEMA).mergeFrom(input, wrapper);
+                input.checkLastTagWas(0);
+                return wrapper.getData();
+            }
+            Schema<T> schema = (Schema<T>) getSchema(clazz);
+            T message = schema.newMessage();
+            schema.mergeFrom(input, message);
+            input.checkLastTagWas(0);
+            return message;
+        } catch (IOException e) {
+            throw SystemException.of(e, "ProtoBufHelper.deserialize failed");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(Class<T> clazz, byte[] data, int offset, int length) {
+        if (isWrapped(clazz)) {
             SerializeDeserializeWrapper<T> wrapper = new SerializeDeserializeWrapper<>();
-            ProtostuffIOUtil.mergeFrom(data, wrapper, WRAPPER_SCHEMA);
+            ProtostuffIOUtil.mergeFrom(data, offset, length, wrapper, WRAPPER_SCHEMA);
             return wrapper.getData();
         } else {
-            Schema<T> schema = RuntimeSchema.getSchema(clazz);
+            Schema<T> schema = (Schema<T>) getSchema(clazz);
             T message = schema.newMessage();
-            ProtostuffIOUtil.mergeFrom(data, message, schema);
+            ProtostuffIOUtil.mergeFrom(data, offset, length, message, schema);
             return message;
         }
     }
 
+    /* ------------ 指定元素类型的集合 ------------ */
+
+    /**
+     * 序列化 List，按元素类型的 Schema 写出长度前缀的重复字段，不写出类名，
+     * 相比 {@link #serialize(Object)} 的包装方式体积更小、速度更快
+     *
+     * @param list         需要序列化的列表，元素可为 null
+     * @param elementClass 元素类型，子类实例只写出该类型的字段
+     * @param <T>          元素类型
+     * @return 序列化后的二进制数组
+     */
+    public static <T> byte[] serializeList(List<T> list, Class<T> elementClass) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(list, "list");
+
+        ListSchema<T> schema = getListSchema(elementClass);
+        PooledBuffer pooled = LinkedBufferPool.acquire(schema, LIST_BUFFER_SIZE);
+        try {
+            byte[] bytes = ProtobufIOUtil.toByteArray(list, schema, pooled.buffer);
+            LinkedBufferPool.record(schema, bytes.length);
+            return bytes;
+        } finally {
+            LinkedBufferPool.release(pooled);
+        }
+    }
+
+    /**
+     * 反序列化 {@link #serializeList} 写出的 List
+     *
+     * @param data         二进制数组
+     * @param elementClass 元素类型
+     * @param <T>          元素类型
+     * @return ArrayList
+     */
+    public static <T> List<T> deserializeList(byte[] data, Class<T> elementClass) {
+        ListSchema<T> schema = getListSchema(elementClass);
+        List<T> list = schema.newMessage();
+        ProtobufIOUtil.mergeFrom(data, list, schema);
+        return list;
+    }
+
+    /**
+     * 序列化 int 数组（packed 编码：元素个数 + zigzag varint）
+     *
+     * @param values int 数组
+     * @return 序列化后的二进制数组
+     */
+    public static byte[] serializeInts(int[] values) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(values, "values");
+
+        int size = varintSize(values.length);
+        for (int value : values) {
+            size += varintSize(zigzag(value));
+        }
+        byte[] bytes = new byte[size];
+        int pos = writeVarint(bytes, 0, values.length);
+        for (int value : values) {
+            pos = writeVarint(bytes, pos, zigzag(value));
+        }
+        return bytes;
+    }
+
+    /**
+     * 反序列化 {@link #serializeInts} 写出的 int 数组
+     *
+     * @param data 二进制数组
+     * @return int 数组
+     */
+    public static int[] deserializeInts(byte[] data) {
+        int[] pos = {0};
+        int[] values = new int[checkLength(readVarint(data, pos), data.length)];
+        for (int i = 0; i < values.length; i++) {
+            long n = readVarint(data, pos);
+            values[i] = (int) (n >>> 1) ^ -(int) (n & 1);
+        }
+        return values;
+    }
+
+    /**
+     * 序列化 long 数组（packed 编码：元素个数 + zigzag varint）
+     *
+     * @param values long 数组
+     * @return 序列化后的二进制数组
+     */
+    public static byte[] serializeLongs(long[] values) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(values, "values");
+
+        int size = varintSize(values.length);
+        for (long value : values) {
+            size += varintSize(zigzag(value));
+        }
+        byte[] bytes = new byte[size];
+        int pos = writeVarint(bytes, 0, values.length);
+        for (long value : values) {
+            pos = writeVarint(bytes, pos, zigzag(value));
+        }
+        return bytes;
+    }
+
+    /**
+     * 反序列化 {@link #serializeLongs} 写出的 long 数组
+     *
+     * @param data 二进制数组
+     * @return long 数组
+     */
+    public static long[] deserializeLongs(byte[] data) {
+        int[] pos = {0};
+        long[] values = new long[checkLength(readVarint(data, pos), data.length)];
+        for (int i = 0; i < values.length; i++) {
+            long n = readVarint(data, pos);
+            values[i] = (n >>> 1) ^ -(n & 1);
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ListSchema<T> getListSchema(Class<T> elementClass) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(elementClass, "elementClass");
+        return (ListSchema<T>) LIST_SCHEMA_CACHE.computeIfAbsent(elementClass,
+                k -> new ListSchema<>((Schema<T>) getSchema(k)));
+    }
+
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int varintSize(long value) {
+        return value == 0 ? 1 : (70 - Long.numberOfLeadingZeros(value)) / 7;
+    }
+
+    private static int writeVarint(byte[] bytes, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarint(byte[] bytes, int[] pos) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos[0] >= bytes.length) {
+                throw SystemException.of("ProtoBufHelper: truncated varint");
+            }
+            byte b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw SystemException.of("ProtoBufHelper: malformed varint");
+    }
+
+    /**
+     * 每个元素至少占 1 字节，长度超过剩余数据即为异常数据
+     */
+    private static int checkLength(long length, int dataLength) {
+        if (length > dataLength) {
+            throw SystemException.of("ProtoBufHelper: invalid array length " + length);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Protostuff 不支持序列化/反序列化数组、集合等对象，需包装处理
+     */
+    private static boolean isWrapped(Class<?> clazz) {
+        return clazz.isArray() || Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz);
+    }
+
+    private static Schema<?> getSchema(Class<?> clazz) {
+        Schema<?> schema = SCHEMA_CACHE.get(clazz);
+        if (schema == null) {
+            schema = SCHEMA_CACHE.computeIfAbsent(clazz, RuntimeSchema::getSchema);
+        }
+        return schema;
+    }
+
     /**
      * <p>
      * 序列化/反序列化对象包装类 专为基于 Protostuff 进行序列化/反序列化而定义。 Protostuff
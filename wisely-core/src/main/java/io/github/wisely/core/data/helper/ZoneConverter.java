@@ -0,0 +1,224 @@
+package io.github.wisely.core.data.helper;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按时区缓存偏移量的 epoch / LocalDateTime 转换
+ * <p>
+ * 无夏令时等变更的时区直接使用固定偏移；有变更的时区缓存当前所在变更区间（两次 transition 之间）的偏移，
+ * 区间内的转换只做加减运算，不经过 ZonedDateTime。落在区间外时重新计算区间，
+ * 处于夏令时切换的重叠 / 间隙附近的本地时间交给 ZonedDateTime 处理，结果与 atZone 一致。
+ * </p>
+ * <p>
+ * 系统默认时区的实例首次使用时缓存，运行期修改 JVM 默认时区后需调用 {@link #refreshSystemDefault()}。
+ * </p>
+ */
+public final class ZoneConverter {
+
+    private static final Map<ZoneId, ZoneConverter> CACHE = new ConcurrentHashMap<>();
+
+    private static volatile ZoneConverter systemDefault;
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * 当前变更区间（不可变快照，整体替换）
+     */
+    private volatile Window window;
+
+    private ZoneConverter(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.window = rules.isFixedOffset()
+                ? Window.fixed(rules.getOffset(Instant.EPOCH))
+                : window(Instant.now().getEpochSecond());
+    }
+
+
+    /**
+     * 获取指定时区的转换器
+     *
+     * @param zone 时区
+     * @return ZoneConverter
+     */
+    @Nonnull
+    public static ZoneConverter of(@Nonnull ZoneId zone) {
+        return CACHE.computeIfAbsent(zone, ZoneConverter::new);
+    }
+
+    /**
+     * 获取系统默认时区的转换器
+     *
+     * @return ZoneConverter
+     */
+    @Nonnull
+    public static ZoneConverter systemDefault() {
+        ZoneConverter converter = systemDefault;
+        if (converter == null) {
+            converter = of(ZoneId.systemDefault());
+            systemDefault = converter;
+        }
+        return converter;
+    }
+
+    /**
+     * 重新读取 JVM 默认时区（TimeZone.setDefault 之后调用）
+     */
+    public static void refreshSystemDefault() {
+        systemDefault = of(ZoneId.systemDefault());
+    }
+
+    /**
+     * @return 时区
+     */
+    @Nonnull
+    public ZoneId getZone() {
+        return zone;
+    }
+
+
+    /* ==================== 单个转换 ==================== */
+
+    /**
+     * 获取指定时刻的偏移量
+     *
+     * @param epochSecond 秒
+     * @return ZoneOffset
+     */
+    @Nonnull
+    public ZoneOffset getOffset(long epochSecond) {
+        Window w = window;
+        if (epochSecond < w.start || epochSecond >= w.end) {
+            w = window(epochSecond);
+            window = w;
+        }
+        return w.offset;
+    }
+
+    /**
+     * 毫秒转 LocalDateTime
+     *
+     * @param epochMilli 毫秒
+     * @return LocalDateTime
+     */
+    @Nonnull
+    public LocalDateTime toLocalDateTime(long epochMilli) {
+        long second = Math.floorDiv(epochMilli, 1000L);
+        int nano = (int) Math.floorMod(epochMilli, 1000L) * 1_000_000;
+        return LocalDateTime.ofEpochSecond(second, nano, getOffset(second));
+    }
+
+    /**
+     * LocalDateTime 转秒（重叠时取较早偏移、间隙时顺延，与 atZone 一致）
+     *
+     * @param time LocalDateTime
+     * @return 秒
+     */
+    public long toEpochSecond(@Nonnull LocalDateTime time) {
+        long local = time.toEpochSecond(ZoneOffset.UTC);
+
+        Window w = window;
+        long candidate = local - w.offset.getTotalSeconds();
+        if (candidate >= w.lower && candidate < w.upper) {
+            return candidate;
+        }
+
+        // 不在当前区间时切换到候选时刻所在区间再试一次
+        w = window(candidate);
+        window = w;
+        candidate = local - w.offset.getTotalSeconds();
+        if (candidate >= w.lower && candidate < w.upper) {
+            return candidate;
+        }
+        return time.atZone(zone).toEpochSecond();
+    }
+
+    /**
+     * LocalDateTime 转毫秒
+     *
+     * @param time LocalDateTime
+     * @return 毫秒
+     */
+    public long toEpochMilli(@Nonnull LocalDateTime time) {
+        return Math.addExact(Math.multiplyExact(toEpochSecond(time), 1000L), time.getNano() / 1_000_000);
+    }
+
+
+    /* ==================== 批量转换 ==================== */
+
+    /**
+     * 批量毫秒转 LocalDateTime（按时间排序的数据可持续命中同一区间）
+     *
+     * @param epochMillis 毫秒数组
+     * @return LocalDateTime数组
+     */
+    @Nonnull
+    public LocalDateTime[] toLocalDateTimes(@Nonnull long[] epochMillis) {
+        LocalDateTime[] result = new LocalDateTime[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            result[i] = toLocalDateTime(epochMillis[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量 LocalDateTime 转毫秒
+     *
+     * @param times LocalDateTime数组，null 元素转换为 0
+     * @return 毫秒数组
+     */
+    @Nonnull
+    public long[] toEpochMillis(@Nonnull LocalDateTime[] times) {
+        long[] result = new long[times.length];
+        for (int i = 0; i < times.length; i++) {
+            result[i] = times[i] == null ? 0L : toEpochMilli(times[i]);
+        }
+        return result;
+    }
+
+
+    /* ==================== 变更区间 ==================== */
+
+    private Window window(long epochSecond) {
+        if (rules.isFixedOffset()) {
+            return window;
+        }
+
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        ZoneOffset offset = rules.getOffset(instant);
+        // previousTransition 不含自身时刻，+1 秒以包含恰好位于变更点的时刻
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        return new Window(offset, previous, next);
+    }
+
+    /**
+     * 偏移量不变的区间 [start, end)，以及本地时间可直接换算的安全区间 [lower, upper)
+     * （排除夏令时切换产生的重叠 / 间隙部分）
+     */
+    private record Window(ZoneOffset offset, long start, long end, long lower, long upper) {
+
+        static Window fixed(ZoneOffset offset) {
+            return new Window(offset, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        Window(ZoneOffset offset, @Nullable ZoneOffsetTransition previous, @Nullable ZoneOffsetTransition next) {
+            this(offset,
+                    previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+                    next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+                    previous == null ? Long.MIN_VALUE : previous.toEpochSecond()
+                            + Math.max(0, previous.getOffsetBefore().getTotalSeconds() - offset.getTotalSeconds()),
+                    next == null ? Long.MAX_VALUE : next.toEpochSecond()
+                            - Math.max(0, offset.getTotalSeconds() - next.getOffsetAfter().getTotalSeconds()));
+        }
+    }
+}
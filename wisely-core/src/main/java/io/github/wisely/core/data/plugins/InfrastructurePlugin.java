@@ -1,8 +1,15 @@
 package io.github.wisely.core.data.plugins;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wisely.core.data.eum.SerializeFormat;
 import io.github.wisely.core.data.helper.JsonHelper;
+import io.github.wisely.core.data.serializer.DeflateSerializer;
+import io.github.wisely.core.data.serializer.Serializer;
+import io.github.wisely.core.data.serializer.Serializers;
 import io.github.wisely.core.plugin.AbstractPlugin;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,12 +18,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
 import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
 
 
 @ConditionalOnProperty(prefix = "plugins.infrastructure", name = "enabled", havingValue = "true", matchIfMissing = true)
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(InfrastructureProperties.class)
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@Slf4j
 public class InfrastructurePlugin extends AbstractPlugin implements Ordered {
 
     @Override
@@ -36,4 +47,46 @@ public class InfrastructurePlugin extends AbstractPlugin implements Ordered {
         return JsonHelper.FrameworkObjectMapper.INSTANCE;
     }
 
+    /**
+     * 默认序列化器，格式由 plugins.infrastructure.serialization 配置
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnMissingBean
+    public Serializer serializer(InfrastructureProperties properties) {
+        InfrastructureProperties.Serialization serialization = properties.getSerialization();
+        // protostuff 为可选依赖
+        boolean protostuff = ClassUtils.isPresent("io.protostuff.runtime.RuntimeSchema", getClass().getClassLoader());
+        SerializeFormat format = serialization.getFormat();
+        if (format == null) {
+            format = protostuff ? SerializeFormat.PROTOSTUFF : SerializeFormat.JSON;
+        } else if (format != SerializeFormat.JSON && !protostuff) {
+            log.warn("protostuff not found on classpath, serializer falls back to JSON, configured format: {}", format);
+            format = SerializeFormat.JSON;
+        }
+        return switch (format) {
+            case PROTOSTUFF_DEFLATE -> new DeflateSerializer(serialization.getCompressThreshold(), serialization.getCompressLevel());
+            default -> Serializers.of(format);
+        };
+    }
+
+    /**
+     * 所有单例初始化完成后预热 JSON 编解码句柄
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static SmartInitializingSingleton jsonCodecWarmUp(ObjectProvider<InfrastructureProperties> properties,
+                                                             ObjectProvider<ObjectMapper> objectMapper) {
+        return () -> {
+            List<Class<?>> types = properties.getObject().getJson().getWarmUpTypes();
+            if (types.isEmpty()) {
+                return;
+            }
+            // 以容器中的 ObjectMapper 为准
+            objectMapper.ifUnique(JsonHelper::setObjectMapper);
+            JsonHelper.warmUp(types);
+            log.info("JsonHelper warm-up completed, types: {}", types.size());
+        };
+    }
+
 }
@@ -1,10 +1,14 @@
 package io.github.wisely.core.data.plugins;
 
 
+import io.github.wisely.core.data.eum.SerializeFormat;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @ConfigurationProperties(prefix = "plugins.infrastructure")
 @Setter
 @Getter
@@ -12,4 +16,45 @@ public class InfrastructureProperties {
 
     private boolean enabled = true;
 
+    /**
+     * JSON 配置
+     */
+    private Json json = new Json();
+
+    /**
+     * 序列化配置
+     */
+    private Serialization serialization = new Serialization();
+
+    @Setter
+    @Getter
+    public static class Json {
+
+        /**
+         * 启动时预热编解码句柄的类型（全限定类名），避免首个请求承担序列化器解析开销
+         */
+        private List<Class<?>> warmUpTypes = new ArrayList<>();
+    }
+
+    @Setter
+    @Getter
+    public static class Serialization {
+
+        /**
+         * 默认 Serializer 写出的格式，读取时按格式头自动识别，切换后已有数据仍可读取；
+         * 未配置时 classpath 中有 protostuff（可选依赖）则为 PROTOSTUFF，否则为 JSON
+         */
+        private SerializeFormat format;
+
+        /**
+         * PROTOSTUFF_DEFLATE 压缩阈值（字节），小于该值不压缩
+         */
+        private int compressThreshold = 1024;
+
+        /**
+         * PROTOSTUFF_DEFLATE 压缩级别 0-9
+         */
+        private int compressLevel = 1;
+    }
+
 }
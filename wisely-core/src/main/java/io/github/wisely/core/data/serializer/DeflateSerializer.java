@@ -0,0 +1,151 @@
+package io.github.wisely.core.data.serializer;
+
+import io.github.wisely.core.data.eum.SerializeFormat;
+import io.github.wisely.core.data.helper.ProtoBufHelper;
+import io.github.wisely.core.exception.SystemException;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Protostuff + Deflate 压缩序列化器，适合较大的缓存对象
+ * <p>
+ * 数据格式：格式头 + 4 字节原始长度 + raw deflate 数据。
+ * 小于压缩阈值或压缩后没有变小的数据按 {@link SerializeFormat#PROTOSTUFF} 写出。
+ * Deflater / Inflater 持有本地内存，池化复用，不依赖 ThreadLocal。
+ * </p>
+ */
+public final class DeflateSerializer implements Serializer {
+
+    private static final int HEAD_SIZE = 5;
+
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final ArrayBlockingQueue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private static final ArrayBlockingQueue<Inflater> INFLATER_POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * 压缩阈值（字节）
+     */
+    private final int threshold;
+
+    /**
+     * 压缩级别 0-9
+     */
+    private final int level;
+
+    public DeflateSerializer() {
+        this(1024, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * @param threshold 压缩阈值（字节），小于该值不压缩
+     * @param level     压缩级别 0-9
+     */
+    public DeflateSerializer(int threshold, int level) {
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw SystemException.of("DeflateSerializer: invalid level " + level);
+        }
+        this.threshold = Math.max(0, threshold);
+        this.level = level;
+    }
+
+    @Nonnull
+    @Override
+    public SerializeFormat getFormat() {
+        return SerializeFormat.PROTOSTUFF_DEFLATE;
+    }
+
+    @Nullable
+    @Override
+    public byte[] serialize(@Nullable Object value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        byte[] raw = ProtoBufHelper.serialize(value);
+        if (raw.length < threshold) {
+            return Serializers.withHeader(SerializeFormat.PROTOSTUFF, raw);
+        }
+
+        Deflater deflater = DEFLATER_POOL.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level, true);
+        }
+        try {
+            deflater.setLevel(level);
+            deflater.setInput(raw);
+            deflater.finish();
+
+            // 输出上限为原始长度，超出即压缩无收益
+            byte[] out = new byte[HEAD_SIZE + raw.length];
+            out[0] = SerializeFormat.PROTOSTUFF_DEFLATE.getHeader();
+            out[1] = (byte) (raw.length >>> 24);
+            out[2] = (byte) (raw.length >>> 16);
+            out[3] = (byte) (raw.length >>> 8);
+            out[4] = (byte) raw.length;
+            int n = HEAD_SIZE;
+            while (!deflater.finished() && n < out.length) {
+                n += deflater.deflate(out, n, out.length - n);
+            }
+            if (!deflater.finished() || n >= HEAD_SIZE + raw.length) {
+                return Serializers.withHeader(SerializeFormat.PROTOSTUFF, raw);
+            }
+            return Arrays.copyOf(out, n);
+        } finally {
+            deflater.reset();
+            if (!DEFLATER_POOL.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * 解压（含格式头的完整数据）
+     */
+    static byte[] inflate(byte[] data) {
+
+        if (data.length < HEAD_SIZE) {
+            throw SystemException.of("DeflateSerializer: truncated data");
+        }
+        int length = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+        if (length < 0) {
+            throw SystemException.of("DeflateSerializer: invalid length " + length);
+        }
+
+        Inflater inflater = INFLATER_POOL.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setInput(data, HEAD_SIZE, data.length - HEAD_SIZE);
+            byte[] out = new byte[length];
+            int n = 0;
+            while (n < length) {
+                int read = inflater.inflate(out, n, length - n);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != length) {
+                throw SystemException.of("DeflateSerializer: expected " + length + " bytes, but was " + n);
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw SystemException.of(e, "DeflateSerializer.inflate failed");
+        } finally {
+            inflater.reset();
+            if (!INFLATER_POOL.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.wisely.core.data.serializer;
+
+import io.github.wisely.core.data.eum.SerializeFormat;
+import io.github.wisely.core.data.helper.JsonHelper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * 基于 {@link JsonHelper} 的 JSON 序列化器，可读性好、跨语言
+ */
+public final class JsonSerializer implements Serializer {
+
+    @Nonnull
+    @Override
+    public SerializeFormat getFormat() {
+        return SerializeFormat.JSON;
+    }
+
+    @Nullable
+    @Override
+    public byte[] serialize(@Nullable Object value) {
+        return value == null ? null : Serializers.withHeader(SerializeFormat.JSON, JsonHelper.obj2JsonBytes(value));
+    }
+}
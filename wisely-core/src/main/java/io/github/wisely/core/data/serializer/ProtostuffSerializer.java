@@ -0,0 +1,24 @@
+package io.github.wisely.core.data.serializer;
+
+import io.github.wisely.core.data.eum.SerializeFormat;
+import io.github.wisely.core.data.helper.ProtoBufHelper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * 基于 {@link ProtoBufHelper} 的 Protostuff 序列化器，体积小、速度快，仅限 Java 端读取
+ */
+public final class ProtostuffSerializer implements Serializer {
+
+    @Nonnull
+    @Override
+    public SerializeFormat getFormat() {
+        return SerializeFormat.PROTOSTUFF;
+    }
+
+    @Nullable
+    @Override
+    public byte[] serialize(@Nullable Object value) {
+        return value == null ? null : Serializers.withHeader(SerializeFormat.PROTOSTUFF, ProtoBufHelper.serialize(value));
+    }
+}
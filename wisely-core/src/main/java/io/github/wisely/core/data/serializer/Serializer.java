@@ -0,0 +1,44 @@
+package io.github.wisely.core.data.serializer;
+
+import io.github.wisely.core.data.eum.SerializeFormat;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * 序列化器
+ * <p>
+ * 序列化结果以一个字节的格式头开头（见 {@link SerializeFormat}），
+ * 反序列化按格式头自动识别，任一实现都能读取其他实现写出的数据，切换格式不影响已有数据的读取。
+ * 默认实现由 {@code plugins.infrastructure.serialization} 配置，通过注入 Serializer 使用。
+ * </p>
+ */
+public interface Serializer {
+
+    /**
+     * @return 写出的格式
+     */
+    @Nonnull
+    SerializeFormat getFormat();
+
+    /**
+     * 对象 => 带格式头的二进制数组
+     *
+     * @param value 对象
+     * @return 二进制数组，对象为 null 时返回 null
+     */
+    @Nullable
+    byte[] serialize(@Nullable Object value);
+
+    /**
+     * 带格式头的二进制数组 => 对象，按格式头自动识别格式
+     *
+     * @param data  二进制数组
+     * @param clazz 对象类型
+     * @param <T>   对象类型
+     * @return 对象，数据为空时返回 null
+     */
+    @Nullable
+    default <T> T deserialize(@Nullable byte[] data, @Nonnull Class<T> clazz) {
+        return Serializers.deserialize(data, clazz);
+    }
+}
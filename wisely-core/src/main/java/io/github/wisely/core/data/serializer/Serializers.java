@@ -0,0 +1,100 @@
+package io.github.wisely.core.data.serializer;
+
+import io.github.wisely.core.data.eum.SerializeFormat;
+import io.github.wisely.core.data.helper.JsonHelper;
+import io.github.wisely.core.data.helper.ProtoBufHelper;
+import io.github.wisely.core.exception.SystemException;
+import io.github.wisely.core.exception.eum.CommonExceptionEnum;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 序列化器工具
+ */
+@UtilityClass
+public class Serializers {
+
+    private static final Serializer JSON = new JsonSerializer();
+
+    private static final Serializer PROTOSTUFF = new ProtostuffSerializer();
+
+    private static final Serializer PROTOSTUFF_DEFLATE = new DeflateSerializer();
+
+
+    /**
+     * 获取默认配置的序列化器
+     *
+     * @param format 格式
+     * @return 序列化器
+     */
+    @Nonnull
+    public static Serializer of(@Nonnull SerializeFormat format) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(format, "format");
+
+        return switch (format) {
+            case JSON -> JSON;
+            case PROTOSTUFF -> PROTOSTUFF;
+            case PROTOSTUFF_DEFLATE -> PROTOSTUFF_DEFLATE;
+        };
+    }
+
+    /**
+     * 识别数据格式
+     *
+     * @param data 带格式头的二进制数组
+     * @return 格式，数据为空或无法识别时返回 null
+     */
+    @Nullable
+    public static SerializeFormat detect(@Nullable byte[] data) {
+        return data == null || data.length == 0 ? null : SerializeFormat.of(data[0]);
+    }
+
+    /**
+     * 带格式头的二进制数组 => 对象，按格式头自动识别格式
+     *
+     * @param data  二进制数组
+     * @param clazz 对象类型
+     * @param <T>   对象类型
+     * @return 对象，数据为空时返回 null
+     */
+    @Nullable
+    public static <T> T deserialize(@Nullable byte[] data, @Nonnull Class<T> clazz) {
+
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(clazz, "clazz");
+
+        if (data == null || data.length == 0) {
+            return null;
+        }
+
+        SerializeFormat format = SerializeFormat.of(data[0]);
+        if (format == null) {
+            throw SystemException.of("Serializers: unknown format header " + data[0]);
+        }
+        return switch (format) {
+            case JSON -> JsonHelper.json2Obj(payload(data), clazz);
+            case PROTOSTUFF -> ProtoBufHelper.deserialize(clazz, payload(data));
+            case PROTOSTUFF_DEFLATE -> ProtoBufHelper.deserialize(clazz, DeflateSerializer.inflate(data));
+        };
+    }
+
+    /**
+     * 在数据前加上格式头
+     */
+    static byte[] withHeader(SerializeFormat format, byte[] payload) {
+        byte[] data = new byte[payload.length + 1];
+        data[0] = format.getHeader();
+        System.arraycopy(payload, 0, data, 1, payload.length);
+        return data;
+    }
+
+    /**
+     * 格式头之后的内容（不复制）
+     */
+    private static ByteBuffer payload(byte[] data) {
+        return ByteBuffer.wrap(data, 1, data.length - 1);
+    }
+}
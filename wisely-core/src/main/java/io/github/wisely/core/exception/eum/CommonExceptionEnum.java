@@ -31,6 +31,7 @@ public enum CommonExceptionEnum implements FrameworkCommonAssert {
     NEED_LOGIN(5001, "common.login_required"),
     OPERATOR_FORBIDDEN(5002, "common.operator_forbidden"),
     RECORD_NOT_FOUND(5003, "common.record_not_found"),
+    LOCK_FAILED(5004, "common.lock_failed"),
     ;
 
     CommonExceptionEnum(int code, String message) {
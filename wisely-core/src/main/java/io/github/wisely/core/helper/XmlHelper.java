@@ -2,13 +2,19 @@ package io.github.wisely.core.helper;
 
 import io.github.wisely.core.exception.SystemException;
 import lombok.experimental.UtilityClass;
+import org.dom4j.Attribute;
 import org.dom4j.Document;
+import org.dom4j.Element;
 import org.dom4j.io.SAXReader;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.InputSource;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * XML 文件处理工具类
@@ -73,6 +79,62 @@ public class XmlHelper {
         return readFile(ResourceHelper.getInputStream(resourcePath), withDtd);
     }
 
+    /**
+     * 读取不可信来源（如请求体）的 XML
+     * <p>
+     * 禁止 DOCTYPE 声明，从而杜绝外部实体（XXE）与实体膨胀攻击。
+     * </p>
+     *
+     * @param inputStream 输入流
+     * @return Document对象
+     */
+    public static Document readUntrusted(InputStream inputStream) {
+        try {
+            SAXReader reader = new SAXReader();
+            reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            reader.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            reader.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            return reader.read(inputStream);
+        } catch (Exception e) {
+            throw SystemException.of(e, "XmlHelper.readFile_error");
+        }
+    }
+
+    /**
+     * 元素 => Map
+     * <p>
+     * 属性与子元素均以名称为键；含子元素的元素转为 Map，否则取去除首尾空白的文本；
+     * 同名子元素合并为 List。
+     * </p>
+     *
+     * @param element 元素
+     * @return 有序Map
+     */
+    public static Map<String, Object> toMap(Element element) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Attribute attribute : element.attributes()) {
+            map.put(attribute.getName(), attribute.getValue());
+        }
+        for (Element child : element.elements()) {
+            Object value = child.elements().isEmpty() && child.attributeCount() == 0 ? child.getTextTrim() : toMap(child);
+            map.merge(child.getName(), value, XmlHelper::append);
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object append(Object existing, Object value) {
+        // 元素值只会是 String 或 Map，List 一定是合并同名元素产生的
+        if (existing instanceof List<?> list) {
+            ((List<Object>) list).add(value);
+            return list;
+        }
+        List<Object> list = new ArrayList<>();
+        list.add(existing);
+        list.add(value);
+        return list;
+    }
+
 
     static class NullEntityResolver implements EntityResolver {
         static String emptyDtd = "";
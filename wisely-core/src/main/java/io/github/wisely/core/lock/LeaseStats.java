@@ -0,0 +1,29 @@
+package io.github.wisely.core.lock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 租约续期统计信息（累计值，自看门狗创建起）
+ *
+ * @param active        当前续期中的租约数量
+ * @param renewed       续期成功次数
+ * @param failed        续期失败次数（锁已丢失或续期异常）
+ * @param lost          因续期失败而丢失的租约数量
+ * @param totalLagNanos 续期实际执行时间相对计划时间的累计延迟（纳秒）
+ * @param maxLagNanos   续期最大延迟（纳秒）
+ */
+public record LeaseStats(long active,
+                         long renewed,
+                         long failed,
+                         long lost,
+                         long totalLagNanos,
+                         long maxLagNanos) {
+
+    /**
+     * @return 平均续期延迟（毫秒），无续期记录时为 0
+     */
+    public double averageLagMillis() {
+        long total = renewed + failed;
+        return total == 0 ? 0 : (double) totalLagNanos / total / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.wisely.core.lock;
+
+import io.github.wisely.core.exception.eum.CommonExceptionEnum;
+import io.github.wisely.core.exception.handler.ExceptionManager;
+import io.github.wisely.core.spring.helper.SpELHelper;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link WiselyLock} 方法拦截器
+ * <p>
+ * 注解解析结果与预编译的 key 表达式按方法缓存，调用时只做一次 key 求值与加解锁。
+ * 持有者为 “实例标识:线程ID”，同一线程嵌套调用时重入。锁管理器与看门狗在首次调用时解析。
+ * </p>
+ */
+public class LockInterceptor implements MethodInterceptor {
+
+    /**
+     * 区分不同应用实例的持有者前缀
+     */
+    private static final String OWNER_PREFIX = UUID.randomUUID() + ":";
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    /**
+     * @param lockManager 锁管理器
+     * @param watchdog    看门狗，ttl 不大于 0 时使用，返回 null 时不续期
+     * @param leaseTtl    ttl 不大于 0 时加锁使用的过期时间
+     */
+    public LockInterceptor(Supplier<LockManager> lockManager, Supplier<LockWatchdog> watchdog, Supplier<Duration> leaseTtl) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(lockManager, "lockManager");
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(watchdog, "watchdog");
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(leaseTtl, "leaseTtl");
+        this.lockManager = lockManager;
+        this.watchdog = watchdog;
+        this.leaseTtl = leaseTtl;
+    }
+
+    private final Supplier<LockManager> lockManager;
+
+    private final Supplier<LockWatchdog> watchdog;
+
+    private final Supplier<Duration> leaseTtl;
+
+    private final Map<MethodClassKey, Definition> definitions = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Class<?> targetClass = invocation.getThis() == null ? null : AopUtils.getTargetClass(invocation.getThis());
+        MethodClassKey cacheKey = new MethodClassKey(method, targetClass);
+        Definition definition = definitions.get(cacheKey);
+        if (definition == null) {
+            definition = define(method, targetClass);
+            definitions.putIfAbsent(cacheKey, definition);
+        }
+
+        String key = definition.key(invocation.getArguments());
+        String owner = OWNER_PREFIX + Thread.currentThread().threadId();
+        LockManager lockManager = this.lockManager.get();
+        int ttl = definition.ttl() > 0 ? definition.ttl() : (int) Math.max(1, leaseTtl.get().toSeconds());
+        boolean locked;
+        try {
+            locked = definition.waitNanos() > 0
+                    ? lockManager.lock(key, definition.mode(), ttl, owner, Duration.ofNanos(definition.waitNanos()))
+                    : lockManager.tryLock(key, definition.mode(), ttl, owner);
+        } catch (InterruptedException e) {
+            // 被代理方法通常未声明 InterruptedException，恢复中断状态后按加锁失败处理
+            Thread.currentThread().interrupt();
+            locked = false;
+        }
+        if (!locked) {
+            throw ExceptionManager.buildException(CommonExceptionEnum.LOCK_FAILED, key);
+        }
+
+        LockWatchdog watchdog = definition.ttl() > 0 ? null : this.watchdog.get();
+        if (watchdog != null) {
+            watchdog.watch(key, definition.mode(), ttl, owner);
+        }
+        try {
+            return invocation.proceed();
+        } finally {
+            if (watchdog != null) {
+                watchdog.unlock(key, definition.mode(), owner);
+            } else {
+                lockManager.unlock(key, definition.mode(), owner);
+            }
+        }
+    }
+
+
+    private static Definition define(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        WiselyLock lock = AnnotatedElementUtils.findMergedAnnotation(specificMethod, WiselyLock.class);
+        if (lock == null) {
+            lock = AnnotatedElementUtils.findMergedAnnotation(method, WiselyLock.class);
+        }
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(lock, "@WiselyLock");
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotBlank(lock.key(), "@WiselyLock.key");
+
+        Expression expression = lock.key().contains("#{") ? SpELHelper.compileTemplate(lock.key()) : null;
+        String[] indexNames = new String[method.getParameterCount()];
+        for (int i = 0; i < indexNames.length; i++) {
+            indexNames[i] = "p" + i;
+        }
+        return new Definition(lock.key(), expression, PARAMETER_NAME_DISCOVERER.getParameterNames(specificMethod), indexNames, lock.ttl(),
+                lock.timeUnit().toNanos(lock.waitTime()), lock.mode());
+    }
+
+
+    /**
+     * 方法上的锁定义
+     *
+     * @param key            key模板
+     * @param expression     预编译的 key 表达式，固定 key 时为 null
+     * @param parameterNames 参数名，作为表达式变量名，编译未保留参数名时为 null
+     * @param indexNames     p0、p1 ... 形式的参数变量名
+     * @param ttl            锁过期时间（秒）
+     * @param waitNanos      最长等待时间（纳秒）
+     * @param mode           加锁模式
+     */
+    private record Definition(String key,
+                              Expression expression,
+                              String[] parameterNames,
+                              String[] indexNames,
+                              int ttl,
+                              long waitNanos,
+                              LockMode mode) {
+
+        String key(Object[] arguments) {
+            if (expression == null) {
+                return key;
+            }
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < indexNames.length && i < arguments.length; i++) {
+                context.setVariable(indexNames[i], arguments[i]);
+                if (parameterNames != null) {
+                    context.setVariable(parameterNames[i], arguments[i]);
+                }
+            }
+            String value = expression.getValue(context, String.class);
+            CommonExceptionEnum.PARAMETER_REQUIRED.assertNotBlank(value, key);
+            return value;
+        }
+    }
+}
@@ -1,5 +1,21 @@
 package io.github.wisely.core.lock;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁管理器
+ * <p>
+ * 不带 {@link LockMode} 的方法均为写锁（独占）。实现应支持同一持有者重入，加锁几次需解锁几次。
+ * </p>
+ * <p>
+ * {@link #lock} / {@link #lockAsync} 的默认实现基于 tryLock 退避重试，适用于无法感知解锁事件的实现；
+ * 能感知解锁的实现（如 {@link MemoryLockManager}）应覆盖为排队唤醒。
+ * 带 {@link LockMode} 的方法默认将读锁退化为写锁，支持共享模式的实现应覆盖。
+ * </p>
+ */
 public interface LockManager {
 
     /**
@@ -29,11 +45,109 @@ public interface LockManager {
     boolean unlock(String key, String owner);
 
     /**
-     * 续期
+     * 续期，持有者同时持有读锁和写锁时一并续期
      *
      * @param key        锁key
      * @param ttlSeconds 锁过期时间，单位秒
      * @param owner      锁持有者
      */
     boolean renew(String key, int ttlSeconds, String owner);
+
+    /**
+     * 加锁，锁被占用时等待至超时
+     *
+     * @param key        锁key
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @param timeout    最长等待时间，不大于 0 时等同 tryLock
+     * @return 是否加锁成功
+     * @throws InterruptedException 等待期间被中断
+     */
+    default boolean lock(String key, int ttlSeconds, String owner, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long backoff = TimeUnit.MILLISECONDS.toNanos(1);
+        while (!tryLock(key, ttlSeconds, owner)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(backoff, remaining));
+            backoff = Math.min(backoff * 2, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    /**
+     * 异步加锁，锁被占用时等待至超时，不阻塞调用线程
+     *
+     * @param key        锁key
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @param timeout    最长等待时间，不大于 0 时等同 tryLock
+     * @return 是否加锁成功
+     */
+    default CompletableFuture<Boolean> lockAsync(String key, int ttlSeconds, String owner, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return lock(key, ttlSeconds, owner, timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, Thread::startVirtualThread);
+    }
+
+    /**
+     * 按模式尝试加锁
+     *
+     * @param key        锁key
+     * @param mode       加锁模式
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @return 是否加锁成功
+     */
+    default boolean tryLock(String key, LockMode mode, int ttlSeconds, String owner) {
+        return tryLock(key, ttlSeconds, owner);
+    }
+
+    /**
+     * 按模式加锁，锁被占用时等待至超时
+     *
+     * @param key        锁key
+     * @param mode       加锁模式
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @param timeout    最长等待时间，不大于 0 时等同 tryLock
+     * @return 是否加锁成功
+     * @throws InterruptedException 等待期间被中断
+     */
+    default boolean lock(String key, LockMode mode, int ttlSeconds, String owner, Duration timeout) throws InterruptedException {
+        return lock(key, ttlSeconds, owner, timeout);
+    }
+
+    /**
+     * 按模式异步加锁，锁被占用时等待至超时，不阻塞调用线程
+     *
+     * @param key        锁key
+     * @param mode       加锁模式
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @param timeout    最长等待时间，不大于 0 时等同 tryLock
+     * @return 是否加锁成功
+     */
+    default CompletableFuture<Boolean> lockAsync(String key, LockMode mode, int ttlSeconds, String owner, Duration timeout) {
+        return lockAsync(key, ttlSeconds, owner, timeout);
+    }
+
+    /**
+     * 按模式解锁
+     *
+     * @param key   锁key
+     * @param mode  加锁模式
+     * @param owner 锁的持有者
+     * @return 是否解锁成功
+     */
+    default boolean unlock(String key, LockMode mode, String owner) {
+        return unlock(key, owner);
+    }
 }
@@ -0,0 +1,17 @@
+package io.github.wisely.core.lock;
+
+/**
+ * 加锁模式
+ */
+public enum LockMode {
+
+    /**
+     * 读锁（共享），多个持有者可同时持有，有写锁等待时不再授予新的读锁
+     */
+    READ,
+
+    /**
+     * 写锁（独占）
+     */
+    WRITE
+}
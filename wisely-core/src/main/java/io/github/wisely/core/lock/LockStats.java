@@ -0,0 +1,30 @@
+package io.github.wisely.core.lock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁统计信息（累计值，自锁管理器创建起）
+ *
+ * @param active         当前持有中的锁数量（含已过期但尚未回收的）
+ * @param acquired       加锁成功次数
+ * @param contended      因被其他持有者占用而加锁失败的次数
+ * @param released       解锁成功次数
+ * @param expired        到期未解锁、被回收或被抢占的次数
+ * @param totalHoldNanos 解锁成功的锁累计持有时间（纳秒）
+ * @param maxHoldNanos   解锁成功的锁最长持有时间（纳秒）
+ */
+public record LockStats(long active,
+                        long acquired,
+                        long contended,
+                        long released,
+                        long expired,
+                        long totalHoldNanos,
+                        long maxHoldNanos) {
+
+    /**
+     * @return 平均持有时间（毫秒），无解锁记录时为 0
+     */
+    public double averageHoldMillis() {
+        return released == 0 ? 0 : (double) totalHoldNanos / released / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,418 @@
+package io.github.wisely.core.lock;
+
+import io.github.wisely.core.exception.eum.CommonExceptionEnum;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 锁租约看门狗
+ * <p>
+ * 为持有中的锁按 ttl 的固定比例自动续期：所有租约放在同一个分层时间轮中，由单个调度线程按固定间隔推进，
+ * 到期的续期交给 renewExecutor 执行（默认虚拟线程），不为每把锁单独占用线程。调度线程在首次登记租约时启动。
+ * 同一持有者对同一 key、同一模式重复登记时共用一个租约并计数，解锁相同次数后结束。
+ * </p>
+ * <p>
+ * 通过 {@link #unlock} / {@link Lease#unlock()} 解锁，或绑定的任务完成时，租约结束、不再续期；
+ * 续期返回 false 表示锁已丢失（已过期或被他人持有），租约随即结束并计入 {@link LeaseStats#lost()}，
+ * 续期抛出异常时计入失败并在下一周期重试。
+ * </p>
+ */
+@Slf4j
+public class LockWatchdog implements AutoCloseable {
+
+    public LockWatchdog(LockManager lockManager) {
+        this(lockManager, 1.0 / 3, Duration.ofMillis(100), Thread::startVirtualThread);
+    }
+
+    /**
+     * @param lockManager   锁管理器
+     * @param renewRatio    续期间隔占 ttl 的比例，取值 (0, 1)
+     * @param tickInterval  调度线程推进时间轮的间隔，也是续期间隔的下限
+     * @param renewExecutor 执行续期的线程池
+     */
+    public LockWatchdog(LockManager lockManager, double renewRatio, Duration tickInterval, Executor renewExecutor) {
+        this(lockManager, renewRatio, tickInterval, renewExecutor, System::nanoTime, true);
+    }
+
+    /**
+     * @param clock     纳秒时钟
+     * @param scheduled 是否由调度线程推进时间轮，false 时需调用 {@link #tick()} 推进
+     */
+    LockWatchdog(LockManager lockManager, double renewRatio, Duration tickInterval, Executor renewExecutor,
+                 LongSupplier clock, boolean scheduled) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(lockManager, "lockManager");
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(renewExecutor, "renewExecutor");
+        CommonExceptionEnum.PARAMETER_INVALID.assertTrue(renewRatio > 0 && renewRatio < 1, "renewRatio");
+        CommonExceptionEnum.PARAMETER_INVALID.assertTrue(!tickInterval.isNegative() && !tickInterval.isZero(), "tickInterval");
+
+        this.lockManager = lockManager;
+        this.renewRatio = renewRatio;
+        this.tickNanos = tickInterval.toNanos();
+        this.renewExecutor = renewExecutor;
+        this.clock = clock;
+        this.scheduled = scheduled;
+        this.wheel = new TimerWheel<>(clock.getAsLong());
+    }
+
+    private final LockManager lockManager;
+
+    private final double renewRatio;
+
+    private final long tickNanos;
+
+    private final Executor renewExecutor;
+
+    private final LongSupplier clock;
+
+    private final boolean scheduled;
+
+    /**
+     * 调度线程，首次登记租约时创建，由 lock 保护
+     */
+    private ScheduledExecutorService scheduler;
+
+    private boolean closed;
+
+    /**
+     * 保护 wheel 及租约的调度状态
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final TimerWheel<Lease> wheel;
+
+    private final Map<LeaseKey, Lease> leases = new ConcurrentHashMap<>();
+
+    private final LongAdder renewed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder lost = new LongAdder();
+
+    private final LongAdder totalLagNanos = new LongAdder();
+
+    private final LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+
+
+    /**
+     * 登记已持有的写锁，开始自动续期
+     *
+     * @param key        锁key
+     * @param ttlSeconds 锁过期时间，单位秒，每次续期均续为该值
+     * @param owner      锁的持有者
+     * @return 租约
+     */
+    public Lease watch(String key, int ttlSeconds, String owner) {
+        return watch(key, LockMode.WRITE, ttlSeconds, owner);
+    }
+
+    /**
+     * 登记已持有的锁，开始自动续期，租约解锁时按 mode 解锁
+     *
+     * @param key        锁key
+     * @param mode       加锁模式
+     * @param ttlSeconds 锁过期时间，单位秒，每次续期均续为该值
+     * @param owner      锁的持有者
+     * @return 租约
+     */
+    public Lease watch(String key, LockMode mode, int ttlSeconds, String owner) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(key, "key");
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(mode, "mode");
+        CommonExceptionEnum.PARAMETER_INVALID.assertTrue(ttlSeconds > 0, "ttlSeconds");
+
+        LeaseKey leaseKey = new LeaseKey(key, mode, owner);
+        long period = Math.max(tickNanos, (long) (TimeUnit.SECONDS.toNanos(ttlSeconds) * renewRatio));
+        lock.lock();
+        try {
+            Lease lease = leases.get(leaseKey);
+            if (lease != null && lease.active) {
+                lease.holds++;
+                return lease;
+            }
+            start();
+            lease = new Lease(leaseKey, ttlSeconds, period);
+            leases.put(leaseKey, lease);
+            wheel.schedule(lease, clock.getAsLong() + period);
+            return lease;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 登记已持有的写锁并开始自动续期，task 完成时结束租约（不解锁，锁在 ttl 后过期，需要立即释放时由调用方解锁）
+     *
+     * @param key        锁key
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @param task       持有锁的任务
+     * @return 租约
+     */
+    public Lease watch(String key, int ttlSeconds, String owner, CompletionStage<?> task) {
+        return watch(key, LockMode.WRITE, ttlSeconds, owner, task);
+    }
+
+    /**
+     * 登记已持有的锁并开始自动续期，task 完成时结束租约（不解锁）
+     *
+     * @param key        锁key
+     * @param mode       加锁模式
+     * @param ttlSeconds 锁过期时间，单位秒
+     * @param owner      锁的持有者
+     * @param task       持有锁的任务
+     * @return 租约
+     */
+    public Lease watch(String key, LockMode mode, int ttlSeconds, String owner, CompletionStage<?> task) {
+        Lease lease = watch(key, mode, ttlSeconds, owner);
+        task.whenComplete((result, e) -> lease.cancel());
+        return lease;
+    }
+
+    /**
+     * 结束一次租约登记并解锁
+     *
+     * @param key   锁key
+     * @param owner 锁的持有者
+     * @return 是否解锁成功
+     */
+    public boolean unlock(String key, String owner) {
+        return unlock(key, LockMode.WRITE, owner);
+    }
+
+    /**
+     * 结束一次租约登记并按模式解锁
+     *
+     * @param key   锁key
+     * @param mode  加锁模式
+     * @param owner 锁的持有者
+     * @return 是否解锁成功
+     */
+    public boolean unlock(String key, LockMode mode, String owner) {
+        LeaseKey leaseKey = new LeaseKey(key, mode, owner);
+        lock.lock();
+        try {
+            Lease lease = leases.get(leaseKey);
+            if (lease != null && --lease.holds <= 0) {
+                end(lease);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return lockManager.unlock(key, mode, owner);
+    }
+
+    /**
+     * 获取续期统计信息
+     *
+     * @return 续期统计信息
+     */
+    public LeaseStats stats() {
+        return new LeaseStats(leases.size(), renewed.sum(), failed.sum(), lost.sum(), totalLagNanos.sum(), maxLagNanos.get());
+    }
+
+    /**
+     * 停止调度线程并结束所有租约，不解锁
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+            leases.values().forEach(this::end);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * 启动调度线程，需持有 lock；关闭后不再启动
+     */
+    private void start() {
+        if (!scheduled || scheduler != null || closed) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wisely-lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 推进时间轮，将到期的租约交给线程池续期
+     */
+    void tick() {
+        List<Lease> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(clock.getAsLong(), due::add);
+        } finally {
+            lock.unlock();
+        }
+        for (Lease lease : due) {
+            long scheduledAt = lease.deadline;
+            try {
+                renewExecutor.execute(() -> renew(lease, scheduledAt));
+            } catch (RuntimeException e) {
+                log.warn("锁续期提交失败, key: {}", lease.leaseKey.key(), e);
+                failed.increment();
+                reschedule(lease);
+            }
+        }
+    }
+
+    private void renew(Lease lease, long scheduledAt) {
+        if (!lease.active) {
+            return;
+        }
+        long lag = Math.max(0, clock.getAsLong() - scheduledAt);
+        totalLagNanos.add(lag);
+        maxLagNanos.accumulate(lag);
+
+        boolean success;
+        try {
+            success = lockManager.renew(lease.leaseKey.key(), lease.ttlSeconds, lease.leaseKey.owner());
+        } catch (RuntimeException e) {
+            log.warn("锁续期异常, key: {}", lease.leaseKey.key(), e);
+            failed.increment();
+            reschedule(lease);
+            return;
+        }
+        if (success) {
+            renewed.increment();
+            reschedule(lease);
+            return;
+        }
+        failed.increment();
+        lock.lock();
+        try {
+            if (lease.active) {
+                lease.lost = true;
+                lost.increment();
+                end(lease);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reschedule(Lease lease) {
+        lock.lock();
+        try {
+            if (lease.active && !lease.isScheduled()) {
+                wheel.schedule(lease, clock.getAsLong() + lease.periodNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 结束租约，需持有 lock
+     */
+    private void end(Lease lease) {
+        lease.active = false;
+        wheel.cancel(lease);
+        leases.remove(lease.leaseKey, lease);
+    }
+
+
+    private record LeaseKey(String key, LockMode mode, String owner) {
+    }
+
+    /**
+     * 租约，调度状态由看门狗的锁保护
+     */
+    public final class Lease extends TimerWheel.Timeout implements AutoCloseable {
+
+        private final LeaseKey leaseKey;
+
+        private final int ttlSeconds;
+
+        private final long periodNanos;
+
+        private int holds = 1;
+
+        private volatile boolean active = true;
+
+        private volatile boolean lost;
+
+        private Lease(LeaseKey leaseKey, int ttlSeconds, long periodNanos) {
+            this.leaseKey = leaseKey;
+            this.ttlSeconds = ttlSeconds;
+            this.periodNanos = periodNanos;
+        }
+
+        public String key() {
+            return leaseKey.key();
+        }
+
+        public String owner() {
+            return leaseKey.owner();
+        }
+
+        public LockMode mode() {
+            return leaseKey.mode();
+        }
+
+        /**
+         * @return 是否仍在续期
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * @return 是否因续期失败而丢失锁
+         */
+        public boolean isLost() {
+            return lost;
+        }
+
+        /**
+         * 结束租约，不再续期，不解锁
+         */
+        public void cancel() {
+            lock.lock();
+            try {
+                if (active) {
+                    end(this);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 结束一次租约登记并按登记时的模式解锁
+         *
+         * @return 是否解锁成功
+         */
+        public boolean unlock() {
+            return LockWatchdog.this.unlock(leaseKey.key(), leaseKey.mode(), leaseKey.owner());
+        }
+
+        @Override
+        public void close() {
+            unlock();
+        }
+    }
+}
@@ -1,37 +1,87 @@
 package io.github.wisely.core.lock;
 
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheStats;
-import io.github.wisely.core.helper.ValidHelper;
-import lombok.NonNull;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.Strings;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
- * 非可重入锁
+ * 基于内存的可重入读写锁
+ * <p>
+ * 锁表按 key 的哈希分段，每段由独立的 ReentrantLock 保护（不使用 synchronized，虚拟线程下不固定载体线程），
+ * 段内以 HashMap 保存锁、以分层时间轮记录每个持有的到期时间：每次访问该段时顺带回收到期的持有，均摊 O(1)。
+ * 每个持有按自身 ttlSeconds 过期，不会因容量淘汰持有中的锁；长期未访问的段可调用 {@link #cleanUp()} 回收。
+ * </p>
+ * <p>
+ * 同一持有者可重入，重入不延长过期时间，加锁几次需解锁几次；过期时整个持有一并回收。
+ * 读锁可由多个持有者共享，写锁持有者可再获取读锁，读锁不能升级为写锁。
+ * 写锁优先：有写锁在等待时，不再授予新的读锁（已持有读锁的重入除外）。
+ * </p>
+ * <p>
+ * {@link #lock} / {@link #lockAsync} 的等待者按 key 排成 FIFO 队列：锁释放或过期时直接移交给队首等待者
+ * （队首连续的读锁等待者一并授予）并唤醒，有等待者时 tryLock 不会插队。
+ * 持有者未解锁时，在最早的持有到期时间安排一次检查以移交过期的锁，等待者本身不轮询。
+ * 检查与异步等待的超时由共享的单个守护线程调度，首次需要时才创建；获得锁或检查时间变化时取消原任务，不堆积。
+ * </p>
  */
-@Slf4j
 public class MemoryLockManager implements LockManager {
 
     public MemoryLockManager() {
         this(10_000, 5 * 60);
     }
 
-    public MemoryLockManager(int maxSize, long seconds) {
-        maxSize = maxSize <= 0 ? 10_000 : maxSize;
-        seconds = seconds <= 0 ? 5 * 60 : seconds;
+    /**
+     * @param initialCapacity 预估同时持有的锁数量，用于分配各段初始容量
+     * @param maxTtlSeconds   锁的最长持有时间（秒），ttlSeconds 不大于 0 或超过该值时取该值
+     */
+    public MemoryLockManager(int initialCapacity, long maxTtlSeconds) {
+        initialCapacity = initialCapacity <= 0 ? 10_000 : initialCapacity;
+        maxTtlSeconds = maxTtlSeconds <= 0 ? 5 * 60 : maxTtlSeconds;
 
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(maxSize)
-                .expireAfterWrite(seconds, TimeUnit.SECONDS)
-                .build();
+        int count = Integer.highestOneBit(Math.max(16, Math.min(1024, Runtime.getRuntime().availableProcessors() * 4)) * 2 - 1);
+        long now = System.nanoTime();
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(Math.max(16, initialCapacity / count), now);
+        }
+        this.mask = count - 1;
+        this.maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
     }
 
-    private final Cache<@NonNull String, @NonNull LockEntry> cache;
+    private final Stripe[] stripes;
+
+    private final int mask;
+
+    private final long maxTtlNanos;
+
+    private final LongAdder active = new LongAdder();
+
+    private final LongAdder acquired = new LongAdder();
+
+    private final LongAdder contended = new LongAdder();
+
+    private final LongAdder released = new LongAdder();
+
+    private final LongAdder expired = new LongAdder();
+
+    private final LongAdder totalHoldNanos = new LongAdder();
+
+    private final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
 
     @Override
     public String name() {
@@ -40,54 +90,625 @@ public class MemoryLockManager implements LockManager {
 
     @Override
     public boolean tryLock(String key, int ttlSeconds, String owner) {
-        long now = System.currentTimeMillis();
-        long expire = now + ttlSeconds * 1000L;
+        return tryLock(key, LockMode.WRITE, ttlSeconds, owner);
+    }
+
+    @Override
+    public boolean tryLock(String key, LockMode mode, int ttlSeconds, String owner) {
+        long now = System.nanoTime();
+        Stripe stripe = stripe(key);
+        stripe.lock();
         try {
-            LockEntry entry = cache.asMap().compute(key, (k, v) -> {
-                if (v == null || now > v.expire) {
-                    return new LockEntry(owner, expire);
+            stripe.expire(now);
+            return stripe.acquire(key, owner, mode == LockMode.READ, ttlSeconds, now);
+        } finally {
+            stripe.unlockAndSignal();
+        }
+    }
+
+    @Override
+    public boolean lock(String key, int ttlSeconds, String owner, Duration timeout) throws InterruptedException {
+        return lock(key, LockMode.WRITE, ttlSeconds, owner, timeout);
+    }
+
+    @Override
+    public boolean lock(String key, LockMode mode, int ttlSeconds, String owner, Duration timeout) throws InterruptedException {
+        long timeoutNanos = timeout.toNanos();
+        Waiter waiter = enqueue(key, mode, ttlSeconds, owner, timeoutNanos, null);
+        if (waiter == null) {
+            return true;
+        }
+        if (waiter.state.get() == Waiter.CANCELLED) {
+            return false;
+        }
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (waiter.state.get() == Waiter.WAITING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return !cancel(key, waiter);
+            }
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                if (cancel(key, waiter)) {
+                    throw new InterruptedException();
                 }
-                return v;
-            });
-            // 只有当前线程持有锁才算加锁成功
-            return Strings.CS.equals(entry.owner, owner);
-        } catch (Exception e) {
-            log.error("MemoryLockManager failed:", e);
+                // 已获得锁，保留中断状态
+                Thread.currentThread().interrupt();
+                return true;
+            }
         }
-        return false;
+        return waiter.state.get() == Waiter.GRANTED;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> lockAsync(String key, int ttlSeconds, String owner, Duration timeout) {
+        return lockAsync(key, LockMode.WRITE, ttlSeconds, owner, timeout);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> lockAsync(String key, LockMode mode, int ttlSeconds, String owner, Duration timeout) {
+        long timeoutNanos = timeout.toNanos();
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Waiter waiter = enqueue(key, mode, ttlSeconds, owner, timeoutNanos, future);
+        if (waiter == null) {
+            future.complete(true);
+        } else if (waiter.state.get() == Waiter.CANCELLED) {
+            future.complete(false);
+        } else {
+            waiter.timeout = schedule(() -> {
+                if (cancel(key, waiter)) {
+                    future.complete(false);
+                }
+            }, timeoutNanos);
+            // 调度前已获得锁时，signal 可能未看到超时任务
+            if (waiter.state.get() != Waiter.WAITING) {
+                waiter.timeout.cancel(false);
+            }
+        }
+        return future;
     }
 
     @Override
     public boolean unlock(String key, String owner) {
-        LockEntry entry = cache.getIfPresent(key);
-        if (entry != null && Strings.CS.equals(entry.owner(), owner)) {
-            cache.invalidate(key);
+        return unlock(key, LockMode.WRITE, owner);
+    }
+
+    @Override
+    public boolean unlock(String key, LockMode mode, String owner) {
+        long now = System.nanoTime();
+        Stripe stripe = stripe(key);
+        stripe.lock();
+        try {
+            stripe.expire(now);
+            LockEntry entry = stripe.entries.get(key);
+            Hold hold = entry == null ? null : entry.hold(owner, mode == LockMode.READ);
+            if (hold == null) {
+                return false;
+            }
+            if (hold.deadline - now <= 0) {
+                stripe.evict(hold);
+                return false;
+            }
+            if (--hold.count > 0) {
+                return true;
+            }
+            stripe.release(hold, now);
+            released.increment();
+            long held = now - hold.acquiredAt;
+            totalHoldNanos.add(held);
+            maxHoldNanos.accumulate(held);
             return true;
+        } finally {
+            stripe.unlockAndSignal();
         }
-        return false;
     }
 
     @Override
     public boolean renew(String key, int ttlSeconds, String owner) {
-        return cache.asMap()
-                .computeIfPresent(key, (k, old) ->
-                        ValidHelper.isEquals(old.owner(), owner) ? old.renew(ttlSeconds) : old) != null;
+        long now = System.nanoTime();
+        Stripe stripe = stripe(key);
+        stripe.lock();
+        try {
+            stripe.expire(now);
+            LockEntry entry = stripe.entries.get(key);
+            if (entry == null) {
+                return false;
+            }
+            boolean renewed = stripe.renew(entry.hold(owner, false), ttlSeconds, now);
+            // 写锁过期回收时锁可能已移交，重新读取
+            entry = stripe.entries.get(key);
+            return stripe.renew(entry == null ? null : entry.hold(owner, true), ttlSeconds, now) || renewed;
+        } finally {
+            stripe.unlockAndSignal();
+        }
+    }
+
+    /**
+     * 回收所有段中已到期的锁
+     */
+    public void cleanUp() {
+        for (Stripe stripe : stripes) {
+            stripe.lock();
+            try {
+                stripe.expire(System.nanoTime());
+            } finally {
+                stripe.unlockAndSignal();
+            }
+        }
     }
 
 
     /**
-     * 获取缓存统计信息
+     * 获取锁统计信息
      *
-     * @return 缓存统计信息
+     * @return 锁统计信息
+     */
+    public LockStats stats() {
+        return new LockStats(active.sum(), acquired.sum(), contended.sum(), released.sum(), expired.sum(),
+                totalHoldNanos.sum(), maxHoldNanos.get());
+    }
+
+
+    /**
+     * 尝试加锁，失败且允许等待时加入等待队列
+     *
+     * @return null-已加锁；否则为等待者，CANCELLED 状态表示加锁失败且不等待
+     */
+    private Waiter enqueue(String key, LockMode mode, int ttlSeconds, String owner, long timeoutNanos, CompletableFuture<Boolean> future) {
+        boolean shared = mode == LockMode.READ;
+        long now = System.nanoTime();
+        Stripe stripe = stripe(key);
+        stripe.lock();
+        try {
+            stripe.expire(now);
+            if (stripe.acquire(key, owner, shared, ttlSeconds, now)) {
+                return null;
+            }
+            Waiter waiter = new Waiter(owner, shared, ttlSeconds, future);
+            if (timeoutNanos <= 0) {
+                waiter.state.set(Waiter.CANCELLED);
+                return waiter;
+            }
+            WaitQueue queue = stripe.queues.computeIfAbsent(key, k -> new WaitQueue());
+            queue.waiters.addLast(waiter);
+            if (!shared) {
+                queue.writers++;
+            }
+            stripe.watch(key, queue, stripe.entries.get(key), now);
+            return waiter;
+        } finally {
+            stripe.unlockAndSignal();
+        }
+    }
+
+    /**
+     * 取消等待
+     *
+     * @return true-已取消；false-已获得锁
+     */
+    private boolean cancel(String key, Waiter waiter) {
+        if (!waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+            return waiter.state.get() != Waiter.GRANTED;
+        }
+        Stripe stripe = stripe(key);
+        stripe.lock();
+        try {
+            WaitQueue queue = stripe.queues.get(key);
+            if (queue != null && queue.waiters.remove(waiter)) {
+                if (!waiter.shared) {
+                    queue.writers--;
+                }
+                // 写锁等待者离开后，其后的读锁等待者可能已可授予
+                stripe.handOff(key, System.nanoTime());
+            }
+        } finally {
+            stripe.unlockAndSignal();
+        }
+        return true;
+    }
+
+    /**
+     * 在持有到期时间检查，移交过期未解锁的锁
+     */
+    private void probe(String key) {
+        long now = System.nanoTime();
+        Stripe stripe = stripe(key);
+        stripe.lock();
+        try {
+            stripe.expire(now);
+            LockEntry entry = stripe.entries.get(key);
+            if (entry != null) {
+                stripe.purge(entry, now, true);
+            }
+            WaitQueue queue = stripe.queues.get(key);
+            if (queue != null) {
+                queue.probeAt = 0;
+                stripe.watch(key, queue, stripe.entries.get(key), now);
+            }
+        } finally {
+            stripe.unlockAndSignal();
+        }
+    }
+
+    private static ScheduledFuture<?> schedule(Runnable task, long nanos) {
+        // 到期后交给虚拟线程执行，避免异步回调阻塞调度线程
+        return Timer.SCHEDULER.schedule(() -> Thread.startVirtualThread(task), Math.max(0, nanos), TimeUnit.NANOSECONDS);
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private long ttlNanos(int ttlSeconds) {
+        return ttlSeconds <= 0 ? maxTtlNanos : Math.min(TimeUnit.SECONDS.toNanos(ttlSeconds), maxTtlNanos);
+    }
+
+
+    /**
+     * 锁表分段，字段均由自身的锁保护
+     */
+    private final class Stripe extends ReentrantLock {
+
+        final Map<String, LockEntry> entries;
+
+        final Map<String, WaitQueue> queues = new HashMap<>();
+
+        final TimerWheel<Hold> wheel;
+
+        final Consumer<Hold> onExpired = this::evict;
+
+        /**
+         * 已移交锁、待解锁后唤醒的等待者（单链表）
+         */
+        Waiter granted;
+
+        Stripe(int initialCapacity, long now) {
+            this.entries = new HashMap<>(initialCapacity);
+            this.wheel = new TimerWheel<>(now);
+        }
+
+        void expire(long now) {
+            wheel.advance(now, onExpired);
+        }
+
+        boolean acquire(String key, String owner, boolean shared, int ttlSeconds, long now) {
+            LockEntry entry = entries.get(key);
+            if (entry != null) {
+                // 时间轮按格推进，判断前先回收已过期但尚未回收的持有；回收可能把锁移交给等待者
+                purge(entry, now, !shared);
+                entry = entries.get(key);
+            }
+            if (entry == null) {
+                grant(key, owner, shared, ttlSeconds, now);
+                return true;
+            }
+
+            Hold hold = entry.hold(owner, shared);
+            if (hold != null) {
+                hold.count++;
+                return true;
+            }
+            boolean writerIsOwner = entry.writer != null && Strings.CS.equals(entry.writer.owner, owner);
+            if (shared && (writerIsOwner || entry.writer == null && !hasWaitingWriter(key))) {
+                grant(key, owner, true, ttlSeconds, now);
+                return true;
+            }
+            contended.increment();
+            return false;
+        }
+
+        boolean hasWaitingWriter(String key) {
+            WaitQueue queue = queues.get(key);
+            return queue != null && queue.writers > 0;
+        }
+
+        LockEntry grant(String key, String owner, boolean shared, int ttlSeconds, long now) {
+            LockEntry entry = entries.get(key);
+            if (entry == null) {
+                entry = new LockEntry(key);
+                entries.put(key, entry);
+                active.increment();
+            }
+            Hold hold = new Hold(entry, owner, shared, now);
+            if (shared) {
+                if (entry.readers == null) {
+                    entry.readers = new HashMap<>(4);
+                }
+                entry.readers.put(owner, hold);
+            } else {
+                entry.writer = hold;
+            }
+            wheel.schedule(hold, now + ttlNanos(ttlSeconds));
+            acquired.increment();
+            return entry;
+        }
+
+        boolean renew(Hold hold, int ttlSeconds, long now) {
+            if (hold == null) {
+                return false;
+            }
+            if (hold.deadline - now <= 0) {
+                evict(hold);
+                return false;
+            }
+            wheel.schedule(hold, now + ttlNanos(ttlSeconds));
+            return true;
+        }
+
+        /**
+         * 回收已过期的写锁，includeReaders 时一并回收已过期的读锁
+         */
+        void purge(LockEntry entry, long now, boolean includeReaders) {
+            if (entry.writer != null && entry.writer.deadline - now <= 0) {
+                evict(entry.writer);
+            }
+            if (!includeReaders || entry.readers == null || entry.readers.isEmpty()) {
+                return;
+            }
+            List<Hold> stale = null;
+            for (Hold hold : entry.readers.values()) {
+                if (hold.deadline - now <= 0) {
+                    if (stale == null) {
+                        stale = new ArrayList<>();
+                    }
+                    stale.add(hold);
+                }
+            }
+            if (stale != null) {
+                stale.forEach(this::evict);
+            }
+        }
+
+        /**
+         * 移除到期的持有
+         */
+        void evict(Hold hold) {
+            wheel.cancel(hold);
+            if (hold.entry.hold(hold.owner, hold.shared) == hold && entries.get(hold.entry.key) == hold.entry) {
+                release(hold, System.nanoTime());
+                expired.increment();
+            }
+        }
+
+        /**
+         * 移除持有，并把锁移交给当前可授予的等待者
+         */
+        void release(Hold hold, long now) {
+            LockEntry entry = hold.entry;
+            wheel.cancel(hold);
+            if (hold.shared) {
+                entry.readers.remove(hold.owner);
+            } else {
+                entry.writer = null;
+            }
+            if (entry.isEmpty()) {
+                entries.remove(entry.key);
+                active.decrement();
+            }
+            handOff(entry.key, now);
+        }
+
+        /**
+         * 按 FIFO 授予当前可授予的等待者：锁空闲时授予队首，队首为读锁时连同其后连续的读锁等待者一并授予
+         */
+        void handOff(String key, long now) {
+            WaitQueue queue = queues.get(key);
+            if (queue == null) {
+                return;
+            }
+            LockEntry entry = entries.get(key);
+            Waiter waiter;
+            while ((waiter = queue.waiters.peekFirst()) != null) {
+                if (waiter.state.get() == Waiter.WAITING && entry != null && (entry.writer != null || !waiter.shared)) {
+                    break;
+                }
+                queue.waiters.pollFirst();
+                if (!waiter.shared) {
+                    queue.writers--;
+                }
+                if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                    entry = grant(key, waiter.owner, waiter.shared, waiter.ttlSeconds, now);
+                    waiter.nextGranted = granted;
+                    granted = waiter;
+                }
+            }
+            if (queue.waiters.isEmpty()) {
+                queues.remove(key);
+                if (queue.probe != null) {
+                    queue.probe.cancel(false);
+                }
+            } else {
+                watch(key, queue, entry, now);
+            }
+        }
+
+        /**
+         * 有等待者时，确保在最早的持有到期时检查一次
+         */
+        void watch(String key, WaitQueue queue, LockEntry entry, long now) {
+            if (entry == null || queue.waiters.isEmpty()) {
+                return;
+            }
+            long deadline = entry.nextDeadline();
+            if (queue.probeAt == deadline) {
+                return;
+            }
+            queue.probeAt = deadline;
+            if (queue.probe != null) {
+                queue.probe.cancel(false);
+            }
+            queue.probe = schedule(() -> probe(key), deadline - now);
+        }
+
+        /**
+         * 释放段锁，并在锁外唤醒已获得锁的等待者（避免在段锁内执行异步回调）
+         */
+        void unlockAndSignal() {
+            Waiter waiter = granted;
+            granted = null;
+            unlock();
+            while (waiter != null) {
+                Waiter next = waiter.nextGranted;
+                waiter.nextGranted = null;
+                waiter.signal();
+                waiter = next;
+            }
+        }
+    }
+
+    /**
+     * 一个 key 上的全部持有
      */
-    public CacheStats stats() {
-        return cache.stats();   // 暴露统计
+    private static final class LockEntry {
+
+        final String key;
+
+        Hold writer;
+
+        /**
+         * 持有者 -> 读锁，首次获取读锁时创建
+         */
+        Map<String, Hold> readers;
+
+        LockEntry(String key) {
+            this.key = key;
+        }
+
+        Hold hold(String owner, boolean shared) {
+            if (shared) {
+                return readers == null ? null : readers.get(owner);
+            }
+            return writer != null && Strings.CS.equals(writer.owner, owner) ? writer : null;
+        }
+
+        boolean isEmpty() {
+            return writer == null && (readers == null || readers.isEmpty());
+        }
+
+        long nextDeadline() {
+            boolean found = writer != null;
+            long deadline = found ? writer.deadline : 0;
+            if (readers != null) {
+                for (Hold hold : readers.values()) {
+                    if (!found || hold.deadline - deadline < 0) {
+                        deadline = hold.deadline;
+                        found = true;
+                    }
+                }
+            }
+            return deadline;
+        }
+    }
+
+    /**
+     * 单个持有者的一次持有，count 为重入次数
+     */
+    private static final class Hold extends TimerWheel.Timeout {
+
+        final LockEntry entry;
+
+        final String owner;
+
+        final boolean shared;
+
+        final long acquiredAt;
+
+        int count = 1;
+
+        Hold(LockEntry entry, String owner, boolean shared, long acquiredAt) {
+            this.entry = entry;
+            this.owner = owner;
+            this.shared = shared;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+
+    private static final class WaitQueue {
+
+        final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+        /**
+         * 队列中写锁等待者数量，用于写锁优先
+         */
+        int writers;
+
+        /**
+         * 已安排检查的持有到期时间，0 表示未安排
+         */
+        long probeAt;
+
+        ScheduledFuture<?> probe;
     }
 
+    private static final class Waiter {
+
+        static final int WAITING = 0;
+
+        static final int GRANTED = 1;
+
+        static final int CANCELLED = 2;
+
+        final AtomicInteger state = new AtomicInteger(WAITING);
+
+        final String owner;
+
+        final boolean shared;
+
+        final int ttlSeconds;
+
+        /**
+         * 同步等待的线程，异步等待时为 null
+         */
+        final Thread thread;
+
+        /**
+         * 异步等待的结果，同步等待时为 null
+         */
+        final CompletableFuture<Boolean> future;
+
+        /**
+         * 异步等待的超时任务，获得锁时取消
+         */
+        volatile ScheduledFuture<?> timeout;
+
+        Waiter nextGranted;
+
+        Waiter(String owner, boolean shared, int ttlSeconds, CompletableFuture<Boolean> future) {
+            this.owner = owner;
+            this.shared = shared;
+            this.ttlSeconds = ttlSeconds;
+            this.future = future;
+            this.thread = future == null ? Thread.currentThread() : null;
+        }
+
+        void signal() {
+            if (future != null) {
+                ScheduledFuture<?> task = timeout;
+                if (task != null) {
+                    task.cancel(false);
+                }
+                future.complete(true);
+            } else {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    /**
+     * 检查与超时的调度线程，所有实例共享，首次使用时创建；取消的任务立即移出队列
+     */
+    private static final class Timer {
+
+        static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "wisely-lock-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-    record LockEntry(String owner, long expire) {
-        LockEntry renew(int ttlSeconds) {
-            return new LockEntry(owner, System.currentTimeMillis() + ttlSeconds * 1000L);
+        static {
+            SCHEDULER.setRemoveOnCancelPolicy(true);
         }
     }
 }
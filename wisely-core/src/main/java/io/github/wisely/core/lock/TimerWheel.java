@@ -0,0 +1,228 @@
+package io.github.wisely.core.lock;
+
+import java.util.function.Consumer;
+
+/**
+ * 分层时间轮
+ * <p>
+ * 4 层、每层 64 个槽，最低层一格约 16.8ms（2^24 纳秒），覆盖范围依次约为 1 秒、69 秒、73 分钟、78 小时，
+ * 超出范围的任务放在最高层并在到期前逐层下沉。槽内为双向链表，添加、取消均为 O(1)。
+ * 非线程安全，由调用方加锁保护；时间由调用方通过 {@link #advance} 推进，不持有线程。
+ * </p>
+ *
+ * @param <T> 任务类型
+ */
+final class TimerWheel<T extends TimerWheel.Timeout> {
+
+    private static final int TICK_SHIFT = 24;
+
+    private static final int SLOT_BITS = 6;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private static final int LEVELS = 4;
+
+    /**
+     * 推进跨度超过该格数时改为整体重排，避免长时间未推进后逐格扫描
+     */
+    private static final long MAX_STEP_TICKS = SLOTS * 4L;
+
+    /**
+     * 时间起点，使格数从 0 开始
+     */
+    private final long origin;
+
+    /**
+     * [层][槽] 链表头（哨兵）
+     */
+    private final Timeout[][] buckets = new Timeout[LEVELS][SLOTS];
+
+    /**
+     * 已推进到的格数
+     */
+    private long currentTick;
+
+    private int size;
+
+    TimerWheel(long nowNanos) {
+        this.origin = nowNanos;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timeout sentinel = new Timeout();
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                buckets[level][slot] = sentinel;
+            }
+        }
+    }
+
+
+    /**
+     * 添加任务，已在时间轮中的任务先取消再重新添加
+     *
+     * @param timeout  任务
+     * @param deadline 到期时间（System.nanoTime 基准）
+     */
+    void schedule(T timeout, long deadline) {
+        if (timeout.isScheduled()) {
+            unlink(timeout);
+        } else {
+            size++;
+        }
+        timeout.deadline = deadline;
+        link(timeout);
+    }
+
+    /**
+     * 取消任务，不在时间轮中时忽略
+     *
+     * @param timeout 任务
+     */
+    void cancel(T timeout) {
+        if (timeout.isScheduled()) {
+            unlink(timeout);
+            size--;
+        }
+    }
+
+    /**
+     * 推进时间，移除到期任务并回调
+     *
+     * @param nowNanos 当前时间（System.nanoTime）
+     * @param expired  到期回调，回调时任务已移出时间轮，可在回调中重新添加
+     */
+    @SuppressWarnings("unchecked")
+    void advance(long nowNanos, Consumer<? super T> expired) {
+        long targetTick = tick(nowNanos);
+        if (targetTick <= currentTick) {
+            return;
+        }
+        if (targetTick - currentTick > MAX_STEP_TICKS) {
+            rebuild(targetTick, nowNanos, expired);
+            return;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 低层转完一圈时，将上层对应槽的任务下沉
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                cascade(level, (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            }
+            Timeout sentinel = buckets[0][(int) currentTick & SLOT_MASK];
+            for (Timeout timeout = sentinel.next; timeout != sentinel; ) {
+                Timeout next = timeout.next;
+                unlink(timeout);
+                if (timeout.deadline - nowNanos <= 0) {
+                    size--;
+                    expired.accept((T) timeout);
+                } else {
+                    link(timeout);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * @return 时间轮中的任务数
+     */
+    int size() {
+        return size;
+    }
+
+
+    private long tick(long nanos) {
+        return Math.max(0, (nanos - origin) >> TICK_SHIFT);
+    }
+
+    private void link(Timeout timeout) {
+        long ticks = Math.max(tick(timeout.deadline), currentTick + 1);
+        long delta = ticks - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        if (level == LEVELS - 1 && delta >= 1L << (SLOT_BITS * LEVELS)) {
+            // 超出总范围，放在最高层最远的槽，到达后再重新定位
+            ticks = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        }
+        Timeout sentinel = buckets[level][(int) (ticks >>> (SLOT_BITS * level)) & SLOT_MASK];
+        timeout.prev = sentinel.prev;
+        timeout.next = sentinel;
+        sentinel.prev.next = timeout;
+        sentinel.prev = timeout;
+    }
+
+    private static void unlink(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout sentinel = buckets[level][slot];
+        for (Timeout timeout = sentinel.next; timeout != sentinel; ) {
+            Timeout next = timeout.next;
+            unlink(timeout);
+            link(timeout);
+            timeout = next;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuild(long targetTick, long nowNanos, Consumer<? super T> expired) {
+        Timeout pending = null;
+        for (Timeout[] level : buckets) {
+            for (Timeout sentinel : level) {
+                for (Timeout timeout = sentinel.next; timeout != sentinel; ) {
+                    Timeout next = timeout.next;
+                    unlink(timeout);
+                    // 借用 prev 字段串成临时链表，重排前不在任何槽中
+                    timeout.prev = pending;
+                    pending = timeout;
+                    timeout = next;
+                }
+            }
+        }
+        currentTick = targetTick;
+        while (pending != null) {
+            Timeout timeout = pending;
+            pending = timeout.prev;
+            timeout.prev = null;
+            if (timeout.deadline - nowNanos <= 0) {
+                size--;
+                expired.accept((T) timeout);
+            } else {
+                link(timeout);
+            }
+        }
+    }
+
+
+    /**
+     * 时间轮任务，由需要定时的对象继承以避免额外分配
+     */
+    static class Timeout {
+
+        private Timeout prev;
+
+        private Timeout next;
+
+        /**
+         * 到期时间（System.nanoTime 基准）
+         */
+        long deadline;
+
+        /**
+         * @return 是否在时间轮中
+         */
+        boolean isScheduled() {
+            return next != null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.wisely.core.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法级锁，方法执行前加锁、返回或抛出异常后解锁
+ * <p>
+ * key 为模板，#{...} 内为 SpEL 表达式，方法参数以参数名作为变量（需以 -parameters 编译），也可用 #p0、#p1 ... 引用，
+ * 如 {@code @WiselyLock(key = "order:#{#order.id}")}；不含 #{...} 时为固定 key。
+ * 同一线程内嵌套调用同一 key 时重入。加锁失败抛出 {@code LOCK_FAILED} 业务异常。
+ * </p>
+ * <p>
+ * 返回 CompletableFuture 等异步结果的方法，锁只覆盖方法本身的执行，不等待异步结果完成。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WiselyLock {
+
+    /**
+     * 锁key模板
+     */
+    String key();
+
+    /**
+     * 锁过期时间，单位秒；不大于 0 时以 plugins.lock.watchdog.lease-ttl 加锁并由看门狗自动续期
+     */
+    int ttl() default -1;
+
+    /**
+     * 锁被占用时的最长等待时间，不大于 0 时不等待
+     */
+    long waitTime() default 0;
+
+    /**
+     * waitTime 的单位，默认毫秒
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 加锁模式，默认写锁
+     */
+    LockMode mode() default LockMode.WRITE;
+}
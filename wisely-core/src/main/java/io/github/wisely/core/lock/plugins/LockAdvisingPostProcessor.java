@@ -0,0 +1,19 @@
+package io.github.wisely.core.lock.plugins;
+
+import io.github.wisely.core.lock.WiselyLock;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+/**
+ * 为含 {@link WiselyLock} 方法的 Bean 创建代理，不依赖 AspectJ 与全局自动代理
+ */
+public class LockAdvisingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public LockAdvisingPostProcessor(MethodInterceptor interceptor) {
+        // 已有代理（如 @Async）时加在最前，锁覆盖整个调用
+        setBeforeExistingAdvisors(true);
+        this.advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, WiselyLock.class, true), interceptor);
+    }
+}
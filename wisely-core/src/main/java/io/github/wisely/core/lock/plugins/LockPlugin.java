@@ -0,0 +1,66 @@
+package io.github.wisely.core.lock.plugins;
+
+import com.google.common.base.Suppliers;
+import io.github.wisely.core.lock.LockInterceptor;
+import io.github.wisely.core.lock.LockManager;
+import io.github.wisely.core.lock.LockWatchdog;
+import io.github.wisely.core.lock.MemoryLockManager;
+import io.github.wisely.core.plugin.AbstractPlugin;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+
+/**
+ * 锁：默认内存锁管理器、租约看门狗与 {@link io.github.wisely.core.lock.WiselyLock} 注解拦截
+ * <p>
+ * 已定义 LockManager Bean（如分布式实现）时使用已定义的 Bean
+ * </p>
+ */
+@ConditionalOnProperty(prefix = "plugins.lock", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LockProperties.class)
+public class LockPlugin extends AbstractPlugin {
+
+    @Override
+    protected String getName() {
+        return "LockPlugin";
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LockManager lockManager(LockProperties properties) {
+        return new MemoryLockManager(properties.getInitialCapacity(), properties.getMaxTtl().toSeconds());
+    }
+
+    /**
+     * 仅在 {@link io.github.wisely.core.lock.WiselyLock} 首次需要续期或被注入时创建
+     */
+    @Lazy
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public LockWatchdog lockWatchdog(LockManager lockManager, LockProperties properties) {
+        LockProperties.Watchdog watchdog = properties.getWatchdog();
+        return new LockWatchdog(lockManager, watchdog.getRenewRatio(), watchdog.getTickInterval(), Thread::startVirtualThread);
+    }
+
+    /**
+     * 后置处理器需尽早创建，锁管理器等在首次调用时才解析，避免提前初始化
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static LockAdvisingPostProcessor lockAdvisingPostProcessor(ObjectProvider<LockManager> lockManager,
+                                                                      ObjectProvider<LockWatchdog> watchdog,
+                                                                      ObjectProvider<LockProperties> properties) {
+        LockInterceptor interceptor = new LockInterceptor(
+                Suppliers.memoize(lockManager::getObject),
+                Suppliers.memoize(watchdog::getIfAvailable),
+                Suppliers.memoize(() -> properties.getObject().getWatchdog().getLeaseTtl()));
+        return new LockAdvisingPostProcessor(interceptor);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.wisely.core.lock.plugins;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "plugins.lock")
+@Setter
+@Getter
+public class LockProperties {
+
+    /**
+     * 是否开启
+     */
+    private boolean enabled = true;
+
+    /**
+     * 内存锁预估同时持有的锁数量，默认：10000
+     */
+    private int initialCapacity = 10_000;
+
+    /**
+     * 内存锁最长持有时间，默认：5分钟
+     */
+    private Duration maxTtl = Duration.ofMinutes(5);
+
+    /**
+     * 看门狗
+     */
+    private Watchdog watchdog = new Watchdog();
+
+    @Setter
+    @Getter
+    public static class Watchdog {
+
+        /**
+         * 由看门狗续期的锁的过期时间，即 @WiselyLock 未指定 ttl 时使用，默认：30秒
+         */
+        private Duration leaseTtl = Duration.ofSeconds(30);
+
+        /**
+         * 续期间隔占过期时间的比例，默认：1/3
+         */
+        private double renewRatio = 1.0 / 3;
+
+        /**
+         * 调度线程推进时间轮的间隔，默认：100毫秒
+         */
+        private Duration tickInterval = Duration.ofMillis(100);
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -25,6 +27,12 @@ public class SpELHelper {
      */
     private static final ExpressionParser PARSER = new SpelExpressionParser();
 
+    /**
+     * 编译模式解析器：求值数次后编译为字节码，编译后的求值失败时回退解释执行
+     */
+    private static final ExpressionParser COMPILING_PARSER =
+            new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+
     /**
      * 表达式缓存：key -> 编译后的 Expression
      */
@@ -77,6 +85,22 @@ public class SpELHelper {
         return PARSER.parseExpression(template, TEMPLATE_PARSER_CONTEXT).getValue(context, String.class);
     }
 
+    /* -------------------------------------------------- 预编译 -------------------------------------------------- */
+
+    /**
+     * 解析模板（#{...}）为可复用的表达式，不经过全局缓存，由调用方按方法等维度持有后反复求值
+     * <p>
+     * 表达式以 MIXED 模式解析，多次求值后编译为字节码
+     * </p>
+     *
+     * @param template 模板
+     * @return 表达式
+     */
+    public static Expression compileTemplate(String template) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(template, "template");
+        return COMPILING_PARSER.parseExpression(template, TEMPLATE_PARSER_CONTEXT);
+    }
+
     /* -------------------------------------------------- 注册自定义函数 -------------------------------------------------- */
 
     public static void registerFunction(EvaluationContext context, String name, Method method) {
@@ -1,15 +1,25 @@
 package io.github.wisely.core.spring.helper;
 
 import io.github.wisely.core.exception.eum.CommonExceptionEnum;
-import io.github.wisely.core.helper.ValidHelper;
 import jakarta.annotation.Nonnull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 /**
  * Spring工具类
+ * <p>
+ * 按类型获取的单例 Bean 缓存在 {@link #BEAN_CACHE} 中（含不存在的结果），上下文刷新时清空；
+ * 候选 Bean 中有非单例（如 prototype）时不缓存，每次重新获取。
+ * 热点路径可持有 {@link #lazy(Class)} 返回的句柄，解析后每次获取只需读取 volatile 字段。
+ * </p>
  */
 @UtilityClass
 @Slf4j
@@ -18,17 +28,43 @@ public class SpringHelper {
     public static void setApplicationContext(@Nonnull ApplicationContext applicationContext)
             throws BeansException {
         context = applicationContext;
+        clearCache();
         log.info("Spring Context自动初始化完成，可以通过SpringHelper类提供的方法来获取Bean.");
     }
 
-    private static ApplicationContext context = null;
+    private static volatile ApplicationContext context = null;
+
+    /**
+     * 类型 => Bean（Optional.empty 表示不存在）
+     */
+    private static final Map<Class<?>, Optional<Object>> BEAN_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存版本，清空缓存时递增，用于失效 {@link #lazy(Class)} 句柄
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
 
 
+    /**
+     * 当前上下文，未设置时为 null
+     */
+    static ApplicationContext currentContext() {
+        return context;
+    }
+
     public static ApplicationContext getInstance() {
         CommonExceptionEnum.CONFIG_ERROR.assertNotNull(context, "ApplicationContext");
         return context;
     }
 
+    /**
+     * 清空按类型获取的 Bean 缓存（上下文刷新时调用）
+     */
+    public static void clearCache() {
+        GENERATION.incrementAndGet();
+        BEAN_CACHE.clear();
+    }
+
 
     /**
      * 检查是否有指定bean
@@ -42,24 +78,76 @@ public class SpringHelper {
 
 
     /**
-     * 检查是否有指定bean
+     * 检查是否有指定bean（只检查定义，不实例化）
      *
      * @param cls Bean类
      * @return true-有，false-无
      */
     public static boolean hasBean(@Nonnull Class<?> cls) {
-        return context != null && ValidHelper.isNotEmpty(context.getBeansOfType(cls));
+        ApplicationContext current = context;
+        if (current == null) {
+            return false;
+        }
+        Optional<Object> cached = BEAN_CACHE.get(cls);
+        if (cached != null) {
+            return cached.isPresent();
+        }
+        return current.getBeanNamesForType(cls).length > 0;
     }
 
     /**
-     * 根据类型获取Bean
+     * 根据类型获取Bean，单例结果缓存至上下文刷新
      *
      * @param cls Bean类
      * @param <T> Bean类型
-     * @return Bean对象
+     * @return Bean对象，不存在时返回 null，存在多个且无 primary 时抛出异常
      */
+    @SuppressWarnings("unchecked")
     public static <T> T getBean(Class<T> cls) {
-        return !hasBean(cls) ? null : context.getBean(cls);
+        ApplicationContext current = context;
+        if (current == null) {
+            return null;
+        }
+        Optional<Object> cached = BEAN_CACHE.get(cls);
+        if (cached == null) {
+            int expected = GENERATION.get();
+            cached = Optional.ofNullable(current.getBeanProvider(cls).getIfAvailable());
+            // 只缓存单例，解析期间缓存已被清空时不写入
+            if (isSingleton(current, cls) && expected == GENERATION.get()) {
+                BEAN_CACHE.putIfAbsent(cls, cached);
+            }
+        }
+        return (T) cached.orElse(null);
+    }
+
+    /**
+     * 该类型的候选 Bean 是否均为单例（无候选时为 true）
+     */
+    private static boolean isSingleton(ApplicationContext current, Class<?> cls) {
+        for (String name : current.getBeanNamesForType(cls)) {
+            if (!current.isSingleton(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取按类型延迟解析的 Bean 句柄
+     * <pre>
+     * private static final Supplier&lt;Foo&gt; FOO = SpringHelper.lazy(Foo.class);
+     * Foo foo = FOO.get();
+     * </pre>
+     * 上下文刷新后句柄自动重新解析；不存在或非单例时不缓存，每次 get 重新查找。
+     *
+     * @param cls Bean类
+     * @param <T> Bean类型
+     * @return Bean句柄
+     */
+    @Nonnull
+    public static <T> Supplier<T> lazy(@Nonnull Class<T> cls) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(cls, "cls");
+        return new BeanHandle<>(cls);
     }
 
     /**
@@ -84,4 +172,38 @@ public class SpringHelper {
         return !hasBean(name) ? null : context.getBean(name, cls);
     }
 
+
+    private static final class BeanHandle<T> implements Supplier<T> {
+
+        private final Class<T> cls;
+
+        private volatile Resolved<T> resolved;
+
+        private BeanHandle(Class<T> cls) {
+            this.cls = cls;
+        }
+
+        @Override
+        public T get() {
+            Resolved<T> current = resolved;
+            if (current != null && current.generation == GENERATION.get()) {
+                return current.bean;
+            }
+            int expected = GENERATION.get();
+            T bean = getBean(cls);
+            // 仅缓存已进入 BEAN_CACHE 的单例
+            if (bean != null && BEAN_CACHE.containsKey(cls)) {
+                resolved = new Resolved<>(expected, bean);
+            }
+            return bean;
+        }
+
+        @Override
+        public String toString() {
+            return "SpringHelper.lazy(" + cls.getName() + ")";
+        }
+    }
+
+    private record Resolved<T>(int generation, T bean) {
+    }
 }
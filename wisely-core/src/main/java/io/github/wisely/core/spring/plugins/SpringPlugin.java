@@ -9,9 +9,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.env.Environment;
 
 /**
@@ -21,7 +23,7 @@ import org.springframework.core.env.Environment;
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(SpringProperties.class)
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
-public class SpringPlugin extends AbstractPlugin implements ApplicationContextAware, EnvironmentAware {
+public class SpringPlugin extends AbstractPlugin implements ApplicationContextAware, EnvironmentAware, ApplicationListener<ContextRefreshedEvent> {
 
     @Override
     protected String getName() {
@@ -37,4 +39,12 @@ public class SpringPlugin extends AbstractPlugin implements ApplicationContextAw
     public void setApplicationContext(@Nonnull ApplicationContext applicationContext) {
         SpringHelper.setApplicationContext(applicationContext);
     }
+
+    /**
+     * 上下文刷新后清空 SpringHelper 的 Bean 缓存（刷新前解析的结果可能不完整）
+     */
+    @Override
+    public void onApplicationEvent(@Nonnull ContextRefreshedEvent event) {
+        SpringHelper.clearCache();
+    }
 }
@@ -0,0 +1,75 @@
+package io.github.wisely.core.data.getter;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PropertyAccessorsTest {
+
+
+    @NoArgsConstructor
+    @Setter
+    @Getter
+    static class User {
+        String name;
+        int age;
+        Address address;
+    }
+
+    @NoArgsConstructor
+    @Setter
+    @Getter
+    static class Address {
+        String city;
+    }
+
+
+    @Test
+    public void compileTest() {
+        PropertyAccessor accessor = PropertyAccessors.getAccessor(User.class, "address.city");
+        Assertions.assertNotNull(accessor);
+        Assertions.assertTrue(accessor.isWritable());
+
+        // 同一 class + path 只编译一次
+        Assertions.assertSame(accessor, PropertyAccessors.getAccessor(User.class, "address.city"));
+
+        // 含索引、不存在的属性无法编译
+        Assertions.assertNull(PropertyAccessors.getAccessor(User.class, "hobbies[1]"));
+        Assertions.assertNull(PropertyAccessors.getAccessor(User.class, "unknown"));
+    }
+
+
+    @Test
+    public void getSetTest() {
+        User user = new User();
+
+        PropertyAccessor city = PropertyAccessors.getAccessor(User.class, "address.city");
+        Assertions.assertNotNull(city);
+        Assertions.assertNull(city.get(user));
+
+        // 自动创建中间对象
+        city.set(user, "上海");
+        Assertions.assertEquals("上海", user.address.city);
+        Assertions.assertEquals("上海", city.get(user));
+
+        // 类型转换
+        PropertyAccessor age = PropertyAccessors.getAccessor(User.class, "age");
+        Assertions.assertNotNull(age);
+        age.set(user, "20");
+        Assertions.assertEquals(20, user.age);
+        Assertions.assertEquals(20, age.get(user));
+    }
+
+
+    @Test
+    public void pojoProxyTest() {
+        User user = new User();
+        PojoProxy proxy = PojoProxy.proxy(user);
+
+        proxy.set("address.city", "北京").set("age", 18);
+        Assertions.assertEquals("北京", proxy.getString("address.city"));
+        Assertions.assertEquals(18, proxy.getInt("age"));
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.wisely.core.data.helper;
+
+import io.github.wisely.core.data.eum.Common;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+public class DateHelperTest {
+
+
+    @Test
+    public void formatterTest() {
+        LocalDateTime time = LocalDateTime.of(2025, 4, 5, 14, 30, 25);
+
+        // 枚举预置格式不进入缓存
+        long misses = DateHelper.formatterStats().missCount();
+        Assertions.assertSame(Common.DATETIME.getFormatter(), DateHelper.getFormatter(Common.DATETIME.getPattern()));
+        Assertions.assertEquals("2025-04-05 14:30:25", DateHelper.format(time));
+        Assertions.assertEquals("2025-04-05", DateHelper.formatWith(time, Common.DATE.getFormatter()));
+        Assertions.assertNull(DateHelper.format(time, null));
+        Assertions.assertEquals(misses, DateHelper.formatterStats().missCount());
+
+        // 自定义格式首次未命中，之后命中
+        long hits = DateHelper.formatterStats().hitCount();
+        Assertions.assertEquals("2025年04月05日", DateHelper.format(time, "yyyy年MM月dd日"));
+        Assertions.assertEquals("2025年04月05日", DateHelper.format(time, "yyyy年MM月dd日"));
+        Assertions.assertEquals(misses + 1, DateHelper.formatterStats().missCount());
+        Assertions.assertEquals(hits + 1, DateHelper.formatterStats().hitCount());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DateHelper.getFormatter("yyyy-MM-dd bbb"));
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.wisely.core.data.helper;
+
+import io.github.wisely.core.data.eum.*;
+import io.github.wisely.core.data.eum.YearMonth;
+import org.apache.commons.lang3.time.DateUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.util.Date;
+
+public class DateSnifferTest {
+
+
+    @Test
+    public void sniffTest() throws ParseException {
+        String[][] samples = {
+                {"2025-04-05 14:30:25", Common.DATETIME.getPattern()},
+                {"2025/04/05 14:30:25", Common.DATETIME_SLASH.getPattern()},
+                {"2025-04-05 14:30", Common.DATETIME_MIN.getPattern()},
+                {"2025/04/05 14:30", Common.DATETIME_SLASH_MIN.getPattern()},
+                {"2025-04-05", Common.DATE.getPattern()},
+                {"2025/04/05", Common.DATE_SLASH.getPattern()},
+                {"20250405143025", Compact.DATETIME.getPattern()},
+                {"202504051430", Compact.DATETIME_MIN.getPattern()},
+                {"20250405", DateOnly.COMPACT.getPattern()},
+                {"2025-04-05 14:30:25.111", Common.DATETIME_MILLIS.getPattern()},
+                {"2025/04/05 14:30:25.111", Common.DATETIME_SLASH_MILLIS.getPattern()},
+                {"20250405143025111", Compact.DATETIME_MILLIS.getPattern()},
+                {"2025-04-05T14:30:25", ISO8601.BASIC.getPattern()},
+                {"2025-04-05T14:30:25.111", ISO8601.MS.getPattern()},
+                {"2025-04-05T14:30:25.111+0800", ISO8601.Z.getPattern()},
+                {"2025-04-05T14:30:25.111-05:30", ISO8601.FULL.getPattern()},
+                {"2025-04-05T14:30:25.111Z", ISO8601.FULL.getPattern()},
+                {"2025-04", YearMonth.DASH.getPattern()},
+                {"2025/04", YearMonth.SLASH.getPattern()},
+                {"202504", YearMonth.COMPACT.getPattern()},
+                {"14:30:25", TimeOnly.COLON.getPattern()},
+                {"14:30", TimeOnly.MINUTE.getPattern()},
+        };
+        for (String[] sample : samples) {
+            Assertions.assertNotNull(DateSniffer.sniff(sample[0]), sample[0]);
+            Date expected = DateUtils.parseDate(sample[0], sample[1]);
+            Assertions.assertEquals(expected, DateHelper.getDate(sample[0]), sample[0]);
+            Assertions.assertEquals(DateHelper.convertDateToLDT(expected), DateHelper.getLocalDateTime(sample[0]), sample[0]);
+        }
+    }
+
+
+    @Test
+    public void fallbackTest() throws ParseException {
+        // 非严格格式、字段越界交给原有宽松解析
+        for (String text : new String[]{"2025-4-5", "2025-02-30", "2025-04-05 24:00:00", "2025/04/05T14:30:25", "abc"}) {
+            Assertions.assertNull(DateSniffer.sniff(text), text);
+        }
+        Assertions.assertEquals(DateHelper.getDate("2025-03-02"), DateHelper.getDate("2025-02-30"));
+
+        // 1582 年改历前按儒略/格里高利混合历法解析，与原有解析一致
+        String[][] julian = {
+                {"0001-01-01 00:00:00", Common.DATETIME.getPattern()},
+                {"1500-03-01", Common.DATE.getPattern()},
+                {"1582-10-04", Common.DATE.getPattern()},
+                {"15000301", DateOnly.COMPACT.getPattern()},
+        };
+        for (String[] sample : julian) {
+            Assertions.assertNull(DateSniffer.sniff(sample[0]), sample[0]);
+            Assertions.assertEquals(DateUtils.parseDate(sample[0], sample[1]), DateHelper.getDate(sample[0]), sample[0]);
+        }
+        Assertions.assertNotNull(DateSniffer.sniff("1583-01-01"));
+        Assertions.assertNull(DateHelper.getDate("abc"));
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.wisely.core.data.helper;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wisely.core.data.getter.MapProxy;
+import io.github.wisely.core.data.getter.PojoProxy;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class JsonHelperTest {
+
+
+    @Getter
+    @Setter
+    public static class Plain {
+        private String name;
+        private int age;
+        private Long id;
+        private BigDecimal amount;
+        private boolean enabled;
+    }
+
+    @Getter
+    @Setter
+    public static class Annotated {
+        @JsonProperty("full_name")
+        private String name;
+        private LocalDateTime time;
+    }
+
+
+    @Test
+    public void streamTest() {
+        Map<String, Object> map = Map.of("name", "wisely", "age", 18);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonHelper.obj2Json(map, out);
+        StringWriter writer = new StringWriter();
+        JsonHelper.obj2Json(map, writer);
+        Assertions.assertEquals(writer.toString(), out.toString(StandardCharsets.UTF_8));
+
+        byte[] bytes = JsonHelper.obj2JsonBytes(map);
+        Assertions.assertEquals(map, JsonHelper.json2Obj(bytes, new TypeReference<Map<String, Object>>() {
+        }));
+        Assertions.assertEquals(map, JsonHelper.json2Obj(new ByteArrayInputStream(bytes), Map.class));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        Assertions.assertEquals(map, JsonHelper.json2Obj(direct, Map.class));
+        Assertions.assertEquals(0, direct.position());
+
+        Assertions.assertNull(JsonHelper.json2Obj(new ByteArrayInputStream(new byte[0]), Map.class));
+    }
+
+
+    @Test
+    public void iterateTest() {
+        byte[] json = "[{\"age\":1},{\"age\":2},{\"age\":3}]".getBytes(StandardCharsets.UTF_8);
+
+        List<Integer> ages = new ArrayList<>();
+        try (JsonArrayIterator<Map<String, Integer>> it = JsonHelper.iterate(new ByteArrayInputStream(json), new TypeReference<>() {
+        })) {
+            it.forEachRemaining(item -> ages.add(item.get("age")));
+        }
+        Assertions.assertEquals(List.of(1, 2, 3), ages);
+
+        try (JsonArrayIterator<Map> it = JsonHelper.iterate(new ByteArrayInputStream(new byte[0]), Map.class)) {
+            Assertions.assertFalse(it.hasNext());
+        }
+        Assertions.assertThrows(RuntimeException.class, () -> JsonHelper.iterate(new ByteArrayInputStream("{}".getBytes()), Map.class));
+
+        // NDJSON
+        byte[] lines = "{\"age\":1}\n{\"age\":2}\n\n{\"age\":3}\n".getBytes(StandardCharsets.UTF_8);
+        List<Integer> lineAges = new ArrayList<>();
+        try (JsonArrayIterator<Map<String, Integer>> it = JsonHelper.iterateValues(new ByteArrayInputStream(lines), new TypeReference<>() {
+        })) {
+            it.forEachRemaining(item -> lineAges.add(item.get("age")));
+        }
+        Assertions.assertEquals(List.of(1, 2, 3), lineAges);
+    }
+
+
+    @Test
+    public void copyTest() {
+        Plain plain = new Plain();
+        plain.setName("wisely");
+        plain.setAge(18);
+        plain.setId(7L);
+        plain.setAmount(new BigDecimal("12.50"));
+
+        ObjectMapper mapper = JsonHelper.FrameworkObjectMapper.INSTANCE;
+        Assertions.assertNotNull(BeanMapCopier.copy(mapper, plain, mapper.constructType(Map.class)));
+        Assertions.assertNull(BeanMapCopier.copy(mapper, new Annotated(), mapper.constructType(Map.class)));
+
+        Map<String, Object> map = PojoProxy.proxy(plain).toMap();
+        Assertions.assertEquals(List.of("name", "age", "id", "amount", "enabled"), new ArrayList<>(map.keySet()));
+        Assertions.assertEquals(18, map.get("age"));
+        Assertions.assertEquals(new BigDecimal("12.50"), map.get("amount"));
+        // 数值保留属性类型，不再像字符串往返那样变为 Integer/Double
+        Assertions.assertInstanceOf(Integer.class, map.get("age"));
+        Assertions.assertInstanceOf(Long.class, map.get("id"));
+        Assertions.assertInstanceOf(BigDecimal.class, map.get("amount"));
+        Assertions.assertEquals(map, JsonHelper.copyTo(plain, new TypeReference<Map<String, Object>>() {
+        }));
+
+        Plain copied = MapProxy.proxy(map).toPojo(Plain.class);
+        Assertions.assertEquals(JsonHelper.obj2Json(plain), JsonHelper.obj2Json(copied));
+
+        // 需要类型转换的值、未知属性退回 convertValue
+        Plain coerced = JsonHelper.copyTo(Map.of("age", "20", "id", 3, "other", 1), Plain.class);
+        Assertions.assertEquals(20, coerced.getAge());
+        Assertions.assertEquals(3L, coerced.getId());
+
+        // 含 Jackson 注解、非标量属性的类型结果与字符串往返一致
+        Annotated annotated = new Annotated();
+        annotated.setName("wisely");
+        annotated.setTime(LocalDateTime.of(2025, 4, 5, 14, 30));
+        Assertions.assertEquals(JsonHelper.json2Obj(JsonHelper.obj2Json(annotated), Map.class), JsonHelper.copyTo(annotated, Map.class));
+        Assertions.assertEquals(JsonHelper.obj2Json(annotated), JsonHelper.obj2JsonNode(annotated).toString());
+    }
+
+
+    @Test
+    public void codecTest() {
+        JsonCodec<Plain> codec = JsonHelper.codec(Plain.class);
+        Assertions.assertSame(codec, JsonHelper.codec(Plain.class));
+
+        Plain plain = new Plain();
+        plain.setName("wisely");
+        plain.setAge(18);
+        for (int i = 0; i < 3; i++) {
+            byte[] bytes = codec.toBytes(plain);
+            Assertions.assertEquals(JsonHelper.obj2Json(plain), new String(bytes, StandardCharsets.UTF_8));
+            Assertions.assertEquals(18, codec.fromBytes(bytes).getAge());
+        }
+        Assertions.assertEquals("wisely", codec.fromJson(codec.toJson(plain)).getName());
+
+        List<Plain> list = JsonHelper.codec(new TypeReference<List<Plain>>() {
+        }).fromJson("[{\"name\":\"a\"},{\"name\":\"b\"}]");
+        Assertions.assertEquals("b", list.get(1).getName());
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.wisely.core.data.helper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+public class NumberScannerTest {
+
+
+    @Test
+    public void scanTest() {
+        Assertions.assertEquals(NumberScanner.INTEGER, NumberScanner.scan(" -123 "));
+        Assertions.assertEquals(NumberScanner.DECIMAL, NumberScanner.scan("+.5"));
+        Assertions.assertEquals(NumberScanner.COMPLEX, NumberScanner.scan("1.5E+3"));
+        Assertions.assertEquals(NumberScanner.COMPLEX, NumberScanner.scan("1234567890123456789"));
+        Assertions.assertEquals(NumberScanner.INVALID, NumberScanner.scan("1,234"));
+        Assertions.assertEquals(NumberScanner.INVALID, NumberScanner.scan("12abc"));
+        Assertions.assertEquals(NumberScanner.INVALID, NumberScanner.scan("-"));
+        Assertions.assertEquals(NumberScanner.INTEGER, NumberScanner.scan("1,234,567", ',', '.'));
+        Assertions.assertEquals(NumberScanner.INVALID, NumberScanner.scan("1,,234", ',', '.'));
+    }
+
+
+    @Test
+    public void parseTest() {
+        for (String text : new String[]{"0", "-0.0", "007", "1.", ".25", "-12.50", "+99", "123456789012345678", "0.000001"}) {
+            Assertions.assertEquals(new BigDecimal(text), NumberScanner.parseBigDecimal(text, NumberScanner.NO_GROUPING, '.'), text);
+            Assertions.assertEquals(Double.parseDouble(text), NumberScanner.parseDouble(text, NumberScanner.NO_GROUPING, '.'), text);
+        }
+
+        Assertions.assertEquals(-12L, NumberScanner.parseLong("-12.9", NumberScanner.NO_GROUPING, '.'));
+        Assertions.assertEquals(1234567L, NumberScanner.parseLong("1,234,567.8", ',', '.'));
+        Assertions.assertEquals(new BigDecimal("1234.5"), NumberScanner.parseBigDecimal("1.234,5", '.', ','));
+    }
+
+
+    @Test
+    public void dataHelperTest() {
+        Assertions.assertEquals(12, DataHelper.getInt("12.7", 0));
+        Assertions.assertEquals(1234, DataHelper.getIntValue(" 1234 ", 0));
+        Assertions.assertEquals(-5L, DataHelper.getLongValue(-5, 0L));
+        Assertions.assertEquals(0.1, DataHelper.getDoubleValue("0.1", 0D));
+        Assertions.assertEquals(7, DataHelper.getIntValue("abc", 7));
+        Assertions.assertEquals(new BigDecimal("1.5E+3"), DataHelper.getBigDecimal("1.5E+3", null));
+        Assertions.assertNull(DataHelper.getInt("", null));
+        Assertions.assertEquals(new BigDecimal("1234.5"), DataHelper.parseGeneral("1.234,5", Locale.GERMANY));
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.wisely.core.data.helper;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProtoBufHelperTest {
+
+
+    @Getter
+    @Setter
+    public static class User {
+        private String name;
+        private int age;
+        private List<String> tags;
+    }
+
+
+    @Test
+    public void streamTest() {
+        User user = new User();
+        user.setName("wisely");
+        user.setAge(18);
+        user.setTags(List.of("a", "b"));
+
+        byte[] bytes = ProtoBufHelper.serialize(user);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assertions.assertEquals(bytes.length, ProtoBufHelper.serialize(user, out));
+        Assertions.assertArrayEquals(bytes, out.toByteArray());
+
+        User read = ProtoBufHelper.deserialize(User.class, new ByteArrayInputStream(bytes));
+        Assertions.assertEquals("wisely", read.getName());
+        Assertions.assertEquals(List.of("a", "b"), read.getTags());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2).put((byte) 0).put(bytes).flip().position(1);
+        Assertions.assertEquals(18, ProtoBufHelper.deserialize(User.class, direct).getAge());
+        Assertions.assertEquals(1, direct.position());
+        Assertions.assertEquals(18, ProtoBufHelper.deserialize(User.class, ByteBuffer.wrap(bytes)).getAge());
+    }
+
+
+    @Test
+    public void listTest() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(i);
+            // 大小估算随数据增长调整，结果保持一致
+            if (i % 5_000 == 0) {
+                Assertions.assertEquals(list, ProtoBufHelper.deserialize(ArrayList.class, ProtoBufHelper.serialize(list)));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProtoBufHelper.serialize(list, out);
+        Assertions.assertEquals(list, ProtoBufHelper.deserialize(ArrayList.class, ByteBuffer.wrap(out.toByteArray())));
+    }
+
+
+    @Test
+    public void typedListTest() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            User user = new User();
+            user.setName("user" + i);
+            user.setAge(i);
+            user.setTags(List.of("t" + i));
+            users.add(user);
+        }
+        users.add(null);
+
+        byte[] typed = ProtoBufHelper.serializeList(users, User.class);
+        Assertions.assertTrue(typed.length < ProtoBufHelper.serialize(users).length);
+
+        List<User> read = ProtoBufHelper.deserializeList(typed, User.class);
+        Assertions.assertEquals(101, read.size());
+        Assertions.assertEquals("user99", read.get(99).getName());
+        Assertions.assertEquals(List.of("t5"), read.get(5).getTags());
+        Assertions.assertNull(read.get(100));
+        Assertions.assertTrue(ProtoBufHelper.deserializeList(ProtoBufHelper.serializeList(List.of(), User.class), User.class).isEmpty());
+    }
+
+
+    @Test
+    public void packedTest() {
+        int[] ints = {0, 1, -1, 300, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        Assertions.assertArrayEquals(ints, ProtoBufHelper.deserializeInts(ProtoBufHelper.serializeInts(ints)));
+        Assertions.assertEquals(3, ProtoBufHelper.serializeInts(new int[]{1, -1}).length);
+
+        long[] longs = {0L, -2L, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE};
+        Assertions.assertArrayEquals(longs, ProtoBufHelper.deserializeLongs(ProtoBufHelper.serializeLongs(longs)));
+        Assertions.assertThrows(RuntimeException.class, () -> ProtoBufHelper.deserializeLongs(new byte[]{5, 1}));
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.wisely.core.data.helper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+
+public class ZoneConverterTest {
+
+
+    @Test
+    public void convertTest() {
+        Random random = new Random(42);
+        for (String id : new String[]{"Asia/Shanghai", "America/New_York", "Europe/London", "Australia/Lord_Howe", "UTC"}) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneConverter converter = ZoneConverter.of(zone);
+
+            // 随机时刻 + 夏令时切换前后的逐分钟时刻
+            LocalDateTime base = LocalDateTime.of(2024, 3, 10, 0, 0);
+            for (int i = 0; i < 20_000; i++) {
+                LocalDateTime time = i < 10_000
+                        ? base.plusMinutes(i % 5_000).plusMonths(i / 5_000 * 8)
+                        : LocalDateTime.of(1900 + random.nextInt(200), 1, 1, 0, 0).plusSeconds(random.nextInt(366 * 86_400)).withNano(random.nextInt(1000) * 1_000_000);
+
+                long expected = time.atZone(zone).toInstant().toEpochMilli();
+                Assertions.assertEquals(expected, converter.toEpochMilli(time), id + " " + time);
+                Assertions.assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(expected), zone),
+                        converter.toLocalDateTime(expected), id + " " + expected);
+            }
+        }
+    }
+
+
+    @Test
+    public void batchTest() {
+        ZoneConverter converter = ZoneConverter.of(ZoneId.of("Europe/London"));
+        long[] millis = {-1L, 0L, 1_711_846_800_000L, 1_729_994_400_000L};
+        LocalDateTime[] times = converter.toLocalDateTimes(millis);
+        Assertions.assertArrayEquals(millis, converter.toEpochMillis(times));
+        Assertions.assertArrayEquals(new long[]{0L}, converter.toEpochMillis(new LocalDateTime[]{null}));
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.wisely.core.data.serializer;
+
+import io.github.wisely.core.data.eum.SerializeFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SerializersTest {
+
+
+    @Getter
+    @Setter
+    public static class Item {
+        private String name;
+        private List<Integer> values;
+    }
+
+
+    @Test
+    public void formatTest() {
+        Item item = new Item();
+        item.setName("wisely".repeat(300));
+        item.setValues(List.of(1, 2, 3));
+
+        for (SerializeFormat format : SerializeFormat.values()) {
+            byte[] data = Serializers.of(format).serialize(item);
+            Assertions.assertEquals(format, Serializers.detect(data));
+            // 任一实现都能读取其他格式
+            for (SerializeFormat reader : SerializeFormat.values()) {
+                Item read = Serializers.of(reader).deserialize(data, Item.class);
+                Assertions.assertEquals(item.getName(), read.getName());
+                Assertions.assertEquals(item.getValues(), read.getValues());
+            }
+        }
+
+        Assertions.assertNull(Serializers.of(SerializeFormat.JSON).serialize(null));
+        Assertions.assertNull(Serializers.deserialize(new byte[0], Item.class));
+        Assertions.assertThrows(RuntimeException.class, () -> Serializers.deserialize(new byte[]{'{'}, Item.class));
+    }
+
+
+    @Test
+    public void deflateTest() {
+        DeflateSerializer serializer = new DeflateSerializer(64, 6);
+
+        Item small = new Item();
+        small.setName("a");
+        Assertions.assertEquals(SerializeFormat.PROTOSTUFF, Serializers.detect(serializer.serialize(small)));
+
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(i % 10);
+        }
+        Item large = new Item();
+        large.setValues(values);
+        byte[] data = serializer.serialize(large);
+        Assertions.assertTrue(data.length < Serializers.of(SerializeFormat.PROTOSTUFF).serialize(large).length / 4);
+        Assertions.assertEquals(values, serializer.deserialize(data, Item.class).getValues());
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.wisely.core.helper;
+
+import io.github.wisely.core.exception.SystemException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+public class XmlHelperTest {
+
+
+    private static ByteArrayInputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    @Test
+    public void readUntrustedTest() {
+        Map<String, Object> map = XmlHelper.toMap(XmlHelper.readUntrusted(
+                stream("<order id=\"1\"><name> wisely </name><tag>a</tag><tag>b</tag></order>")).getRootElement());
+        Assertions.assertEquals("1", map.get("id"));
+        Assertions.assertEquals("wisely", map.get("name"));
+        Assertions.assertEquals(List.of("a", "b"), map.get("tag"));
+
+        // 禁止 DOCTYPE，外部实体不会被解析
+        Assertions.assertThrows(SystemException.class, () -> XmlHelper.readUntrusted(stream(
+                "<?xml version=\"1.0\"?><!DOCTYPE order [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><order>&xxe;</order>")));
+        Assertions.assertThrows(SystemException.class, () -> XmlHelper.readUntrusted(stream(
+                "<!DOCTYPE order><order/>")));
+    }
+}
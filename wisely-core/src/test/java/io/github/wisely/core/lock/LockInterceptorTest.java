@@ -0,0 +1,90 @@
+package io.github.wisely.core.lock;
+
+import io.github.wisely.core.exception.BusinessException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class LockInterceptorTest {
+
+
+    public record Order(Long id) {
+    }
+
+    public static class OrderService {
+
+        LockManager lockManager;
+
+        LockWatchdog watchdog;
+
+        @WiselyLock(key = "order:#{#p0.id}", ttl = 30)
+        public boolean pay(Order order) {
+            return !lockManager.tryLock("order:" + order.id(), 30, "other");
+        }
+
+        @WiselyLock(key = "order:#{#p0}")
+        public long renew(long id) {
+            return watchdog.stats().active();
+        }
+
+        @WiselyLock(key = "order:#{#p0.id}", ttl = 30, waitTime = 10, timeUnit = TimeUnit.SECONDS)
+        public boolean await(Order order) {
+            return true;
+        }
+
+        @WiselyLock(key = "report", mode = LockMode.READ)
+        public long readRenew() {
+            return watchdog.stats().active();
+        }
+
+        @WiselyLock(key = "config", mode = LockMode.READ, ttl = 30)
+        public boolean read() {
+            return lockManager.tryLock("config", LockMode.READ, 30, "other")
+                    && lockManager.unlock("config", LockMode.READ, "other");
+        }
+    }
+
+
+    @Test
+    public void interceptTest() {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        try (LockWatchdog watchdog = new LockWatchdog(lockManager)) {
+            OrderService target = new OrderService();
+            target.lockManager = lockManager;
+            target.watchdog = watchdog;
+            ProxyFactory factory = new ProxyFactory(target);
+            factory.addAdvisor(new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, WiselyLock.class, true),
+                    new LockInterceptor(() -> lockManager, () -> watchdog, () -> Duration.ofSeconds(30))));
+            OrderService service = (OrderService) factory.getProxy();
+
+            // 执行期间持有锁，返回后解锁
+            Assertions.assertTrue(service.pay(new Order(1L)));
+            Assertions.assertTrue(lockManager.tryLock("order:1", 30, "other"));
+            // 被占用时加锁失败
+            Assertions.assertThrows(BusinessException.class, () -> service.pay(new Order(1L)));
+            // 等待期间被中断时按加锁失败处理，并保留中断状态
+            Thread.currentThread().interrupt();
+            Assertions.assertThrows(BusinessException.class, () -> service.await(new Order(1L)));
+            Assertions.assertTrue(Thread.interrupted());
+            Assertions.assertTrue(lockManager.unlock("order:1", "other"));
+
+            // 未指定 ttl 时由看门狗续期
+            Assertions.assertEquals(1, service.renew(2L));
+            Assertions.assertEquals(0, watchdog.stats().active());
+            Assertions.assertTrue(lockManager.tryLock("order:2", 30, "other"));
+
+            // 读锁由看门狗续期时按读锁解锁
+            Assertions.assertEquals(1, service.readRenew());
+            Assertions.assertEquals(0, watchdog.stats().active());
+            Assertions.assertTrue(lockManager.tryLock("report", 30, "other"));
+
+            Assertions.assertTrue(service.read());
+            Assertions.assertEquals(2, lockManager.stats().active());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.wisely.core.lock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LockWatchdogTest {
+
+
+    /**
+     * ttl 30 秒、续期比例 0.3 时的续期间隔
+     */
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(9);
+
+
+    /**
+     * 手动推进时钟的看门狗，不启动调度线程
+     */
+    private static LockWatchdog watchdog(LockManager lockManager, AtomicLong clock) {
+        return new LockWatchdog(lockManager, 0.3, Duration.ofMillis(20), Runnable::run, clock::get, false);
+    }
+
+    private static void advance(LockWatchdog watchdog, AtomicLong clock, long nanos) {
+        clock.addAndGet(nanos);
+        watchdog.tick();
+    }
+
+
+    @Test
+    public void renewTest() {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        AtomicLong clock = new AtomicLong();
+        try (LockWatchdog watchdog = watchdog(lockManager, clock)) {
+            Assertions.assertTrue(lockManager.tryLock("job:1", 30, "a"));
+            LockWatchdog.Lease lease = watchdog.watch("job:1", 30, "a");
+
+            // 未到续期时间不续期，之后每个间隔续期一次
+            advance(watchdog, clock, PERIOD / 2);
+            Assertions.assertEquals(0, watchdog.stats().renewed());
+            for (int i = 0; i < 3; i++) {
+                advance(watchdog, clock, PERIOD);
+            }
+            Assertions.assertEquals(3, watchdog.stats().renewed());
+            Assertions.assertTrue(lease.isActive());
+
+            // 解锁后不再续期
+            Assertions.assertTrue(lease.unlock());
+            Assertions.assertFalse(lease.isActive());
+            Assertions.assertTrue(lockManager.tryLock("job:1", 30, "b"));
+            advance(watchdog, clock, PERIOD);
+            Assertions.assertEquals(3, watchdog.stats().renewed());
+
+            LeaseStats stats = watchdog.stats();
+            Assertions.assertEquals(0, stats.active());
+            Assertions.assertEquals(0, stats.failed());
+        }
+    }
+
+
+    @Test
+    public void leaseTest() {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        AtomicLong clock = new AtomicLong();
+        try (LockWatchdog watchdog = watchdog(lockManager, clock)) {
+            // 重复登记共用租约，解锁相同次数后结束
+            Assertions.assertTrue(lockManager.tryLock("job:1", 30, "a"));
+            Assertions.assertTrue(lockManager.tryLock("job:1", 30, "a"));
+            LockWatchdog.Lease lease = watchdog.watch("job:1", 30, "a");
+            Assertions.assertSame(lease, watchdog.watch("job:1", 30, "a"));
+            Assertions.assertTrue(watchdog.unlock("job:1", "a"));
+            Assertions.assertTrue(lease.isActive());
+            Assertions.assertTrue(lease.unlock());
+            Assertions.assertFalse(lease.isActive());
+
+            // 未持有的锁续期失败，租约丢失
+            LockWatchdog.Lease missing = watchdog.watch("job:2", 30, "a");
+            // 任务完成时结束租约，不解锁
+            CompletableFuture<Void> task = new CompletableFuture<>();
+            Assertions.assertTrue(lockManager.tryLock("job:3", 30, "a"));
+            LockWatchdog.Lease bound = watchdog.watch("job:3", 30, "a", task);
+            advance(watchdog, clock, PERIOD);
+            Assertions.assertTrue(missing.isLost());
+            Assertions.assertFalse(missing.isActive());
+            Assertions.assertTrue(bound.isActive());
+            task.complete(null);
+            Assertions.assertFalse(bound.isActive());
+            Assertions.assertFalse(lockManager.tryLock("job:3", 30, "b"));
+
+            LeaseStats stats = watchdog.stats();
+            Assertions.assertEquals(0, stats.active());
+            Assertions.assertEquals(1, stats.renewed());
+            Assertions.assertEquals(1, stats.failed());
+            Assertions.assertEquals(1, stats.lost());
+        }
+    }
+
+
+    @Test
+    public void readLeaseTest() {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        AtomicLong clock = new AtomicLong();
+        try (LockWatchdog watchdog = watchdog(lockManager, clock)) {
+            // 读锁与写锁的租约分别登记，按登记时的模式解锁
+            Assertions.assertTrue(lockManager.tryLock("config", LockMode.READ, 30, "a"));
+            LockWatchdog.Lease lease = watchdog.watch("config", LockMode.READ, 30, "a");
+            Assertions.assertEquals(LockMode.READ, lease.mode());
+            Assertions.assertEquals(LockMode.WRITE, watchdog.watch("config", 30, "a").mode());
+            advance(watchdog, clock, PERIOD);
+            Assertions.assertFalse(lease.isLost());
+
+            Assertions.assertTrue(lease.unlock());
+            Assertions.assertFalse(lease.isActive());
+            Assertions.assertTrue(lockManager.tryLock("config", 30, "w"));
+        }
+    }
+}
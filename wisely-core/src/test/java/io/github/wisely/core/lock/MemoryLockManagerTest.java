@@ -0,0 +1,104 @@
+package io.github.wisely.core.lock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class MemoryLockManagerTest {
+
+
+    @Test
+    public void lockTest() throws InterruptedException {
+        MemoryLockManager lockManager = new MemoryLockManager();
+
+        Assertions.assertTrue(lockManager.tryLock("order:1", 30, "a"));
+        Assertions.assertTrue(lockManager.tryLock("order:1", 30, "a"));
+        Assertions.assertFalse(lockManager.tryLock("order:1", 30, "b"));
+        Assertions.assertFalse(lockManager.unlock("order:1", "b"));
+        Assertions.assertFalse(lockManager.renew("order:1", 30, "b"));
+        Assertions.assertTrue(lockManager.renew("order:1", 30, "a"));
+        // 可重入，加锁几次需解锁几次
+        Assertions.assertTrue(lockManager.unlock("order:1", "a"));
+        Assertions.assertFalse(lockManager.tryLock("order:1", 30, "b"));
+        Assertions.assertTrue(lockManager.unlock("order:1", "a"));
+        Assertions.assertFalse(lockManager.unlock("order:1", "a"));
+        Assertions.assertTrue(lockManager.tryLock("order:1", 30, "b"));
+
+        // 按各自的 ttl 过期，过期后可被抢占
+        Assertions.assertTrue(lockManager.tryLock("order:2", 1, "a"));
+        TimeUnit.MILLISECONDS.sleep(1100);
+        Assertions.assertFalse(lockManager.unlock("order:2", "a"));
+        Assertions.assertTrue(lockManager.tryLock("order:2", 30, "b"));
+
+        LockStats stats = lockManager.stats();
+        Assertions.assertEquals(2, stats.active());
+        Assertions.assertEquals(4, stats.acquired());
+        Assertions.assertEquals(2, stats.contended());
+        Assertions.assertEquals(1, stats.released());
+        Assertions.assertEquals(1, stats.expired());
+    }
+
+
+    @Test
+    public void waitTest() throws Exception {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        Assertions.assertTrue(lockManager.tryLock("order:1", 30, "a"));
+        Assertions.assertFalse(lockManager.lock("order:1", 30, "b", Duration.ZERO));
+        Assertions.assertFalse(lockManager.lock("order:1", 30, "b", Duration.ofMillis(50)));
+
+        // 按等待顺序移交，排队期间不可插队
+        CompletableFuture<Boolean> b = lockManager.lockAsync("order:1", 30, "b", Duration.ofSeconds(5));
+        CompletableFuture<Boolean> c = lockManager.lockAsync("order:1", 30, "c", Duration.ofSeconds(5));
+        Assertions.assertTrue(lockManager.unlock("order:1", "a"));
+        Assertions.assertTrue(b.get(1, TimeUnit.SECONDS));
+        Assertions.assertFalse(c.isDone());
+        Assertions.assertFalse(lockManager.tryLock("order:1", 30, "d"));
+        Assertions.assertTrue(lockManager.unlock("order:1", "b"));
+        Assertions.assertTrue(c.get(1, TimeUnit.SECONDS));
+
+        // 持有者不解锁时，到期后移交
+        Assertions.assertTrue(lockManager.tryLock("order:2", 1, "a"));
+        long start = System.nanoTime();
+        Assertions.assertTrue(lockManager.lock("order:2", 30, "b", Duration.ofSeconds(5)));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        Assertions.assertFalse(lockManager.tryLock("order:2", 30, "a"));
+
+        // 等待超时
+        Assertions.assertFalse(lockManager.lockAsync("order:2", 30, "c", Duration.ofMillis(50)).get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(lockManager.unlock("order:2", "b"));
+        Assertions.assertTrue(lockManager.tryLock("order:2", 30, "c"));
+    }
+
+
+    @Test
+    public void readWriteTest() throws Exception {
+        MemoryLockManager lockManager = new MemoryLockManager();
+        Assertions.assertTrue(lockManager.tryLock("config", LockMode.READ, 30, "a"));
+        Assertions.assertTrue(lockManager.tryLock("config", LockMode.READ, 30, "b"));
+        Assertions.assertFalse(lockManager.tryLock("config", LockMode.WRITE, 30, "a"));
+
+        // 写锁等待时不再授予新的读锁，已持有读锁的可重入
+        CompletableFuture<Boolean> writer = lockManager.lockAsync("config", LockMode.WRITE, 30, "w", Duration.ofSeconds(5));
+        Assertions.assertFalse(lockManager.tryLock("config", LockMode.READ, 30, "c"));
+        Assertions.assertTrue(lockManager.tryLock("config", LockMode.READ, 30, "a"));
+        CompletableFuture<Boolean> c = lockManager.lockAsync("config", LockMode.READ, 30, "c", Duration.ofSeconds(5));
+        CompletableFuture<Boolean> d = lockManager.lockAsync("config", LockMode.READ, 30, "d", Duration.ofSeconds(5));
+
+        Assertions.assertTrue(lockManager.unlock("config", LockMode.READ, "a"));
+        Assertions.assertTrue(lockManager.unlock("config", LockMode.READ, "b"));
+        Assertions.assertFalse(writer.isDone());
+        Assertions.assertTrue(lockManager.unlock("config", LockMode.READ, "a"));
+        Assertions.assertTrue(writer.get(1, TimeUnit.SECONDS));
+
+        // 写锁持有者可获取读锁，释放写锁后排队的读锁一并授予
+        Assertions.assertTrue(lockManager.tryLock("config", LockMode.READ, 30, "w"));
+        Assertions.assertFalse(c.isDone());
+        Assertions.assertTrue(lockManager.unlock("config", "w"));
+        Assertions.assertTrue(c.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(d.get(1, TimeUnit.SECONDS));
+        Assertions.assertFalse(lockManager.tryLock("config", 30, "e"));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.wisely.core.lock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimerWheelTest {
+
+
+    static class Task extends TimerWheel.Timeout {
+
+        final int id;
+
+        Task(int id) {
+            this.id = id;
+        }
+    }
+
+
+    @Test
+    public void wheelTest() {
+        long tick = 1L << 24;
+        TimerWheel<Task> wheel = new TimerWheel<>(0);
+        List<Integer> fired = new ArrayList<>();
+
+        // 分别落在第 0、1、2 层
+        Task near = new Task(1);
+        Task middle = new Task(2);
+        Task far = new Task(3);
+        Task cancelled = new Task(4);
+        wheel.schedule(near, 10 * tick);
+        wheel.schedule(middle, 100 * tick);
+        wheel.schedule(far, 5000 * tick);
+        wheel.schedule(cancelled, 50 * tick);
+        wheel.cancel(cancelled);
+        Assertions.assertEquals(3, wheel.size());
+
+        for (long now = 0; now <= 6000 * tick; now += tick) {
+            wheel.advance(now, task -> fired.add(task.id));
+            if (now == 99 * tick) {
+                Assertions.assertEquals(List.of(1), fired);
+            }
+        }
+        Assertions.assertEquals(List.of(1, 2, 3), fired);
+        Assertions.assertEquals(0, wheel.size());
+
+        // 长时间未推进时整体重排
+        fired.clear();
+        wheel.schedule(near, 7000 * tick);
+        wheel.schedule(far, 100_000 * tick);
+        wheel.advance(50_000 * tick, task -> fired.add(task.id));
+        Assertions.assertEquals(List.of(1), fired);
+        wheel.advance(100_000 * tick, task -> fired.add(task.id));
+        Assertions.assertEquals(List.of(1, 3), fired);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.wisely.core.spring.helper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.function.Supplier;
+
+public class SpringHelperTest {
+
+
+    public static class Foo {
+    }
+
+    public static class Bar {
+    }
+
+
+    @Test
+    public void cacheTest() {
+        ApplicationContext previous = SpringHelper.currentContext();
+        Supplier<Foo> foo = SpringHelper.lazy(Foo.class);
+        Supplier<Bar> bar = SpringHelper.lazy(Bar.class);
+
+        try {
+            try (GenericApplicationContext context = new GenericApplicationContext()) {
+                context.refresh();
+                SpringHelper.setApplicationContext(context);
+                Assertions.assertFalse(SpringHelper.hasBean(Foo.class));
+                Assertions.assertNull(SpringHelper.getBean(Foo.class));
+                Assertions.assertNull(foo.get());
+            }
+
+            try (GenericApplicationContext context = new GenericApplicationContext()) {
+                context.registerBean(Foo.class);
+                context.registerBean(Bar.class, bd -> bd.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+                context.refresh();
+                // 新上下文清空缓存，句柄重新解析
+                SpringHelper.setApplicationContext(context);
+                Foo bean = context.getBean(Foo.class);
+                Assertions.assertTrue(SpringHelper.hasBean(Foo.class));
+                Assertions.assertSame(bean, SpringHelper.getBean(Foo.class));
+                Assertions.assertSame(bean, foo.get());
+                Assertions.assertSame(bean, foo.get());
+
+                // 非单例每次获取新实例
+                Assertions.assertTrue(SpringHelper.hasBean(Bar.class));
+                Assertions.assertNotSame(SpringHelper.getBean(Bar.class), SpringHelper.getBean(Bar.class));
+                Assertions.assertNotSame(bar.get(), bar.get());
+            }
+        } finally {
+            SpringHelper.setApplicationContext(previous);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.wisely.web.context;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 基于请求体缓存的输入流
+ * <p>
+ * 内存缓存直接按下标读取字节数组，不经过 ByteArrayInputStream 的同步方法；
+ * 文件缓存委托给文件输入流。请求体已完整缓存，{@link #isReady()} 恒为 true，
+ * 与容器一致，仅在异步处理中可设置 {@link ReadListener}，由 AsyncContext 另起线程依次回调 onDataAvailable、onAllDataRead。
+ * </p>
+ */
+final class CachedBodyInputStream extends ServletInputStream {
+
+    /**
+     * 内存缓冲（文件缓存时为 null）
+     */
+    private final byte[] buffer;
+
+    /**
+     * 文件输入流（内存缓存时为 null）
+     */
+    private final InputStream file;
+
+    private final long length;
+
+    /**
+     * 所属请求，用于非阻塞读取的异步回调
+     */
+    private final ServletRequest request;
+
+    private long position;
+
+    private ReadListener listener;
+
+    CachedBodyInputStream(byte[] buffer, int count, ServletRequest request) {
+        this.buffer = buffer;
+        this.file = null;
+        this.length = count;
+        this.request = request;
+    }
+
+    CachedBodyInputStream(InputStream file, long length, ServletRequest request) {
+        this.buffer = null;
+        this.file = file;
+        this.length = length;
+        this.request = request;
+    }
+
+
+    @Override
+    public boolean isFinished() {
+        return position >= length;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        Objects.requireNonNull(readListener, "readListener");
+        if (listener != null) {
+            throw new IllegalStateException("ReadListener has already been set");
+        }
+        if (!request.isAsyncStarted()) {
+            throw new IllegalStateException("ReadListener requires async processing to be started");
+        }
+        listener = readListener;
+        request.getAsyncContext().start(() -> {
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException | RuntimeException e) {
+                readListener.onError(e);
+            }
+        });
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (isFinished()) {
+            return -1;
+        }
+        int b = buffer != null ? buffer[(int) position] & 0xFF : file.read();
+        if (b >= 0) {
+            position++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        int n = (int) Math.min(len, length - position);
+        if (n <= 0) {
+            return -1;
+        }
+        if (buffer != null) {
+            System.arraycopy(buffer, (int) position, b, off, n);
+        } else {
+            n = file.read(b, off, n);
+            if (n < 0) {
+                return -1;
+            }
+        }
+        position += n;
+        return n;
+    }
+
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        if (buffer != null) {
+            byte[] bytes = Arrays.copyOfRange(buffer, (int) position, (int) length);
+            position = length;
+            return bytes;
+        }
+        byte[] bytes = file.readAllBytes();
+        position += bytes.length;
+        return bytes;
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        if (buffer != null) {
+            int n = (int) (length - position);
+            if (n > 0) {
+                out.write(buffer, (int) position, n);
+                position = length;
+            }
+            return Math.max(n, 0);
+        }
+        long n = file.transferTo(out);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skip = Math.min(Math.max(n, 0), length - position);
+        if (skip <= 0) {
+            return 0;
+        }
+        if (file != null) {
+            skip = file.skip(skip);
+        }
+        position += skip;
+        return skip;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, length - position));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            file.close();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.wisely.web.context;
 
 import io.github.wisely.core.helper.RandomHelper;
+import io.github.wisely.core.helper.StringHelper;
 import io.github.wisely.web.context.helper.RequestHelper;
+import io.github.wisely.web.context.plugins.GlobalFilterProperties;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,8 +11,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
 
 
 /**
@@ -25,10 +31,32 @@ public class GlobalFilter implements Filter {
      */
     public static final String TRACE_ID = "wisely-trace-id";
 
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final GlobalRequestWrapper.BodyCaching caching;
+
+    private final String[] excludePaths;
+
+    private final String[] excludeContentTypes;
+
+
+    public GlobalFilter() {
+        this(new GlobalFilterProperties());
+    }
+
+    public GlobalFilter(GlobalFilterProperties properties) {
+        GlobalFilterProperties.Body body = properties.getBody();
+        this.caching = new GlobalRequestWrapper.BodyCaching(true,
+                (int) Math.min(Integer.MAX_VALUE, body.getMemoryThreshold().toBytes()),
+                StringHelper.isBlank(body.getSpillDirectory()) ? null : Path.of(body.getSpillDirectory()));
+        this.excludePaths = properties.getExcludePaths() == null ? new String[0] : properties.getExcludePaths();
+        this.excludeContentTypes = properties.getExcludeContentTypes() == null ? new String[0] : properties.getExcludeContentTypes();
+    }
+
     /**
      * 过滤器的doFilter方法，用于对请求进行过滤。
      * 1. 支持日志的检索，MDC.put(TRACE_ID, traceId)
-     * 2. 提供对request.getInputStream()的封装，支持可重复读
+     * 2. 提供对request.getInputStream()的封装，支持可重复读（排除的路径、Content-Type 除外）
      *
      * @param servletRequest  Servlet请求对象。
      * @param servletResponse Servlet响应对象。
@@ -50,7 +78,8 @@ public class GlobalFilter implements Filter {
         HttpServletResponse response = (HttpServletResponse) servletResponse;
 
         // 创建并设置一个请求包装器，用于拦截和修改请求信息
-        FrameworkRequestWrapper wrapper = new FrameworkRequestWrapper(request);
+        GlobalRequestWrapper wrapper = new GlobalRequestWrapper(request,
+                isExcluded(request) ? GlobalRequestWrapper.BodyCaching.NONE : caching);
         RequestHelper.setRequest(wrapper);
 
         try {
@@ -59,9 +88,74 @@ public class GlobalFilter implements Filter {
         } finally {
             // 在请求处理完成后，清理线程变量，防止污染其他请求
             RequestHelper.clear();
+            // 删除请求体的临时文件，异步请求在异步处理结束后删除
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener(wrapper));
+            } else {
+                wrapper.release();
+            }
             // 清理MDC中的TRACE_ID
             MDC.remove(TRACE_ID);
         }
     }
 
+    /**
+     * 是否跳过请求体缓存
+     *
+     * @param request 请求对象
+     * @return true-跳过
+     */
+    private boolean isExcluded(HttpServletRequest request) {
+        if (excludeContentTypes.length > 0) {
+            String contentType = request.getContentType();
+            if (StringHelper.isNotBlank(contentType)) {
+                contentType = contentType.toLowerCase(Locale.ROOT);
+                for (String exclude : excludeContentTypes) {
+                    String pattern = exclude.toLowerCase(Locale.ROOT);
+                    if (pattern.endsWith("/*")
+                            ? contentType.startsWith(pattern.substring(0, pattern.length() - 1))
+                            : contentType.startsWith(pattern)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        if (excludePaths.length > 0) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            for (String exclude : excludePaths) {
+                if (PATH_MATCHER.match(exclude, path)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 异步请求结束后释放请求体缓存
+     */
+    private record ReleaseListener(GlobalRequestWrapper wrapper) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            wrapper.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            wrapper.release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            wrapper.release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 再次 startAsync 时需重新注册，否则收不到本轮的结束事件
+            event.getAsyncContext().addListener(this);
+        }
+    }
 }
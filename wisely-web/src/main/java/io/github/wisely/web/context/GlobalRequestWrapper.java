@@ -1,35 +1,44 @@
 package io.github.wisely.web.context;
 
-import io.github.wisely.core.exception.SystemException;
 import io.github.wisely.core.helper.ValidHelper;
-import jakarta.servlet.ReadListener;
+import jakarta.annotation.Nullable;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
-import org.springframework.util.StreamUtils;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Vector;
 
 
+/**
+ * 请求包装，支持请求体的重复读取
+ * <p>
+ * 请求体在首次读取时才缓存：不超过内存阈值的保存在堆内，超过阈值的转存到临时文件；
+ * {@link BodyCaching#NONE} 时不缓存，直接读取原始请求。请求结束时需调用 {@link #release()} 删除临时文件。
+ * getReader 按请求的字符集解码，未指定时使用 UTF-8。
+ * </p>
+ */
 public class GlobalRequestWrapper extends HttpServletRequestWrapper {
 
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
 
     public GlobalRequestWrapper(HttpServletRequest request) {
+        this(request, BodyCaching.DEFAULT);
+    }
+
+    public GlobalRequestWrapper(HttpServletRequest request, BodyCaching caching) {
         super(request);
-        // 将参数表，赋予给当前Map以便于持有request中的参数
-        this.params.putAll(request.getParameterMap());
-        try {
-            this.body = StreamUtils.copyToByteArray(request.getInputStream());
-        } catch (IOException e) {
-            throw SystemException.of(e, "Request body copy failed!!!");
-        }
+        this.caching = caching == null ? BodyCaching.DEFAULT : caching;
     }
 
     public GlobalRequestWrapper(HttpServletRequest request, Map<String, Object> extendParams) {
@@ -38,39 +47,98 @@ public class GlobalRequestWrapper extends HttpServletRequestWrapper {
     }
 
 
-    private final Map<String, String[]> params = new HashMap<>();
-    private final byte[] body;
+    /**
+     * 请求参数，首次访问时从原始请求复制
+     */
+    private Map<String, String[]> params;
+
+    private final BodyCaching caching;
+
+    /**
+     * 请求体缓存，首次读取时创建
+     */
+    private RequestBodyCache body;
 
 
     @Override
-    public ServletInputStream getInputStream() {
-        final ByteArrayInputStream in = new ByteArrayInputStream(body);
-        return new ServletInputStream() {
-            @Override
-            public boolean isFinished() {
-                return false;
-            }
+    public ServletInputStream getInputStream() throws IOException {
+        if (!caching.enabled()) {
+            return super.getInputStream();
+        }
+        return getBody().open(this);
+    }
 
-            @Override
-            public boolean isReady() {
-                return true;
-            }
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (!caching.enabled()) {
+            return super.getReader();
+        }
+        String encoding = getCharacterEncoding();
+        Charset charset;
+        try {
+            charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
 
-            @Override
-            public void setReadListener(ReadListener readListener) {
-                throw new UnsupportedOperationException();
-            }
+    /**
+     * 获取内存中缓存的请求体，未读取过时先读取并缓存
+     * <p>
+     * 返回的 ByteBuffer 直接引用缓存数组（避免复制），调用方不得修改其内容；
+     * 未开启缓存或请求体已转存到临时文件时返回 null，此时应通过 {@link #getInputStream()} 读取。
+     * </p>
+     *
+     * @return 请求体，position 到 limit 为内容
+     * @throws IOException 读取原始请求失败
+     */
+    @Nullable
+    public ByteBuffer getCachedBody() throws IOException {
+        if (!caching.enabled()) {
+            return null;
+        }
+        return getBody().asByteBuffer();
+    }
 
-            @Override
-            public int read() throws IOException {
-                return in.read();
+    /**
+     * 请求体是否已缓存（未读取过请求体时为 false）
+     *
+     * @return true-已缓存
+     */
+    public boolean isBodyCached() {
+        return body != null;
+    }
+
+    /**
+     * 释放请求体缓存，删除临时文件
+     */
+    public void release() {
+        if (body != null) {
+            body.delete();
+        }
+    }
+
+    private RequestBodyCache getBody() throws IOException {
+        if (body == null) {
+            HttpServletRequest request = (HttpServletRequest) getRequest();
+            // 表单参数由容器从请求体解析，需在读取请求体之前取出，否则之后 getParameter 取不到表单字段
+            String contentType = request.getContentType();
+            if (contentType != null && contentType.regionMatches(true, 0, FORM_CONTENT_TYPE, 0, FORM_CONTENT_TYPE.length())) {
+                params();
             }
-        };
+            body = RequestBodyCache.read(request.getInputStream(), request.getContentLengthLong(),
+                    caching.memoryThreshold(), caching.spillDirectory());
+        }
+        return body;
     }
 
-    @Override
-    public BufferedReader getReader() throws IOException {
-        return new BufferedReader(new InputStreamReader(getInputStream()));
+    private Map<String, String[]> params() {
+        if (params == null) {
+            // 将参数表，赋予给当前Map以便于持有request中的参数
+            params = new HashMap<>(getRequest().getParameterMap());
+        }
+        return params;
     }
 
     /**
@@ -81,7 +149,7 @@ public class GlobalRequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public String getParameter(String name) {
-        String[] values = params.get(name);
+        String[] values = params().get(name);
         if (values == null) {
             return null;
         }
@@ -90,7 +158,7 @@ public class GlobalRequestWrapper extends HttpServletRequestWrapper {
 
     @Override
     public String[] getParameterValues(String name) {
-        String[] values = params.get(name);
+        String[] values = params().get(name);
         if (values == null || values.length == 0) {
             return null;
         }
@@ -105,7 +173,7 @@ public class GlobalRequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public Enumeration<String> getParameterNames() {
-        return new Vector<>(params.keySet()).elements();
+        return new Vector<>(params().keySet()).elements();
     }
 
     public void addAllParameters(Map<String, Object> extendParams) {
@@ -118,11 +186,36 @@ public class GlobalRequestWrapper extends HttpServletRequestWrapper {
     public void addParameter(String key, Object value) {
         if (value != null) {
             if (value instanceof String[])
-                params.put(key, (String[]) value);
+                params().put(key, (String[]) value);
             else if (value instanceof String)
-                params.put(key, new String[]{(String) value});
+                params().put(key, new String[]{(String) value});
             else
-                params.put(key, new String[]{String.valueOf(value)});
+                params().put(key, new String[]{String.valueOf(value)});
+        }
+    }
+
+
+    /**
+     * 请求体缓存策略
+     *
+     * @param enabled         是否缓存请求体
+     * @param memoryThreshold 内存缓存上限（字节），超过后转存到临时文件
+     * @param spillDirectory  临时文件目录，null 时使用系统临时目录
+     */
+    public record BodyCaching(boolean enabled, int memoryThreshold, Path spillDirectory) {
+
+        /**
+         * 默认策略：1MB 以内保存在内存，超出转存到系统临时目录
+         */
+        public static final BodyCaching DEFAULT = new BodyCaching(true, 1024 * 1024, null);
+
+        /**
+         * 不缓存请求体
+         */
+        public static final BodyCaching NONE = new BodyCaching(false, 0, null);
+
+        public BodyCaching {
+            memoryThreshold = Math.max(0, memoryThreshold);
         }
     }
 }
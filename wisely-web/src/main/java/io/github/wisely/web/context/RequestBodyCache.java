@@ -0,0 +1,189 @@
+package io.github.wisely.web.context;
+
+import jakarta.servlet.ServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 请求体缓存
+ * <p>
+ * 不超过内存阈值的请求体保存在堆内，超过阈值的整体转存到临时文件，两种方式均可重复读取。
+ * 临时文件在 {@link #delete()} 时删除，同时关闭由 {@link #open} 打开且未关闭的文件流。非线程安全，由持有的请求对象保证独占。
+ * </p>
+ */
+@Slf4j
+final class RequestBodyCache {
+
+    private static final int INITIAL_BUFFER = 8 * 1024;
+
+    private static final RequestBodyCache EMPTY = new RequestBodyCache(new byte[0], 0, null, 0);
+
+    /**
+     * 内存缓冲（转存文件时为 null）
+     */
+    private final byte[] buffer;
+
+    private final int count;
+
+    /**
+     * 转存文件（内存缓存时为 null）
+     */
+    private volatile Path file;
+
+    private final long length;
+
+    /**
+     * 已打开的文件流，删除文件时关闭（内存缓存时不记录）
+     */
+    private List<InputStream> opened;
+
+    private RequestBodyCache(byte[] buffer, int count, Path file, long length) {
+        this.buffer = buffer;
+        this.count = count;
+        this.file = file;
+        this.length = length;
+    }
+
+
+    /**
+     * 读取输入流并缓存
+     *
+     * @param in              原始输入流（读取至结束，不关闭）
+     * @param contentLength   请求声明的长度，未知时为 -1
+     * @param memoryThreshold 内存阈值（字节）
+     * @param spillDirectory  临时文件目录，null 时使用系统临时目录
+     * @return 请求体缓存
+     */
+    static RequestBodyCache read(InputStream in, long contentLength, int memoryThreshold, Path spillDirectory) throws IOException {
+
+        if (contentLength == 0) {
+            return EMPTY;
+        }
+
+        // 声明长度已超过阈值，直接写入文件
+        if (contentLength > memoryThreshold) {
+            return spill(new byte[0], 0, -1, in, spillDirectory);
+        }
+
+        byte[] buffer = new byte[contentLength > 0 ? (int) contentLength : Math.min(INITIAL_BUFFER, memoryThreshold)];
+        int count = 0;
+        while (true) {
+            if (count == buffer.length) {
+                // 缓冲区已满时先探测单个字节，声明长度准确时无需扩容
+                int next = in.read();
+                if (next < 0) {
+                    break;
+                }
+                if (count >= memoryThreshold) {
+                    return spill(buffer, count, next, in, spillDirectory);
+                }
+                buffer = Arrays.copyOf(buffer, Math.min(memoryThreshold, Math.max(count * 2, INITIAL_BUFFER)));
+                buffer[count++] = (byte) next;
+                continue;
+            }
+            int n = in.read(buffer, count, buffer.length - count);
+            if (n < 0) {
+                break;
+            }
+            count += n;
+        }
+        return count == 0 ? EMPTY : new RequestBodyCache(buffer, count, null, count);
+    }
+
+    private static RequestBodyCache spill(byte[] head, int count, int next, InputStream in, Path spillDirectory) throws IOException {
+        Path file = spillDirectory == null
+                ? Files.createTempFile("wisely-body-", ".tmp")
+                : Files.createTempFile(Files.createDirectories(spillDirectory), "wisely-body-", ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(head, 0, count);
+            long length = count;
+            if (next >= 0) {
+                out.write(next);
+                length++;
+            }
+            length += in.transferTo(out);
+            return new RequestBodyCache(null, 0, file, length);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+
+    /**
+     * @return 请求体长度
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * @return 是否已转存到临时文件
+     */
+    boolean isSpilled() {
+        return buffer == null;
+    }
+
+    /**
+     * 内存缓存的只读视图（请勿修改内容），转存文件时返回 null
+     */
+    ByteBuffer asByteBuffer() {
+        return buffer == null ? null : ByteBuffer.wrap(buffer, 0, count);
+    }
+
+    /**
+     * 打开新的输入流，每次从头读取
+     *
+     * @param request 所属请求，设置 ReadListener 时使用其 AsyncContext
+     */
+    CachedBodyInputStream open(ServletRequest request) throws IOException {
+        if (buffer != null) {
+            return new CachedBodyInputStream(buffer, count, request);
+        }
+        Path current = file;
+        if (current == null) {
+            throw new IOException("Request body cache has been released");
+        }
+        InputStream in = Files.newInputStream(current);
+        if (opened == null) {
+            opened = new ArrayList<>(2);
+        }
+        opened.add(in);
+        return new CachedBodyInputStream(in, length, request);
+    }
+
+    /**
+     * 关闭已打开的文件流并删除临时文件
+     */
+    void delete() {
+        Path current = file;
+        if (current == null) {
+            return;
+        }
+        file = null;
+        if (opened != null) {
+            for (InputStream in : opened) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close request body file stream: {}", current, e);
+                }
+            }
+            opened = null;
+        }
+        try {
+            Files.deleteIfExists(current);
+        } catch (IOException e) {
+            log.warn("Failed to delete request body file: {}", current, e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.wisely.web.context.helper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.wisely.web.context.helper.RequestHelper.RequestBodyHandler;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 请求体处理器注册表
+ * <p>
+ * 注册信息保存在不可变快照中，注册 / 移除时复制并以 CAS 替换快照，读取无锁。
+ * 精确类型走哈希查找；通配类型（如 text/*）预先计算前缀，按注册顺序匹配。
+ * Content-Type 头到主类型的解析结果按原始值缓存。
+ * </p>
+ */
+final class BodyHandlerRegistry {
+
+    /**
+     * 原始 Content-Type => 小写主类型，如 "application/json; charset=UTF-8" => "application/json"
+     */
+    private static final Cache<@NonNull String, @NonNull String> MAIN_TYPES =
+            CacheBuilder.newBuilder()
+                    .maximumSize(256)
+                    .build();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+
+    /**
+     * 注册处理器，已存在的类型替换处理器并保持原有顺序
+     *
+     * @param contentType 内容类型，支持 xxx/* 通配
+     * @param handler     处理器
+     */
+    void register(String contentType, RequestBodyHandler handler) {
+        String type = contentType.trim().toLowerCase(Locale.ROOT);
+        snapshot.updateAndGet(current -> current.with(type, handler));
+    }
+
+    /**
+     * 移除处理器
+     *
+     * @param contentType 内容类型
+     */
+    void remove(String contentType) {
+        String type = contentType.trim().toLowerCase(Locale.ROOT);
+        snapshot.updateAndGet(current -> current.without(type));
+    }
+
+    /**
+     * 查找处理器：精确匹配优先，其次按注册顺序匹配通配类型
+     *
+     * @param contentType 原始 Content-Type 请求头
+     * @return 处理器及匹配的类型，无匹配时返回 null
+     */
+    Map.Entry<String, RequestBodyHandler> match(String contentType) {
+        String mainType = mainType(contentType);
+        Snapshot current = snapshot.get();
+
+        RequestBodyHandler handler = current.exact.get(mainType);
+        if (handler != null) {
+            return Map.entry(mainType, handler);
+        }
+        for (int i = 0; i < current.prefixes.length; i++) {
+            if (mainType.startsWith(current.prefixes[i])) {
+                return Map.entry(current.wildcards.get(i), current.wildcardHandlers[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 提取主类型
+     *
+     * @param contentType 原始 Content-Type 请求头
+     * @return 小写主类型
+     */
+    static String mainType(String contentType) {
+        String mainType = MAIN_TYPES.getIfPresent(contentType);
+        if (mainType == null) {
+            int semicolon = contentType.indexOf(';');
+            mainType = (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+            MAIN_TYPES.put(contentType, mainType);
+        }
+        return mainType;
+    }
+
+
+    /**
+     * 注册信息快照，创建后不再修改
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of());
+
+        /**
+         * 按注册顺序排列的类型
+         */
+        final List<String> types;
+
+        final Map<String, RequestBodyHandler> handlers;
+
+        final Map<String, RequestBodyHandler> exact;
+
+        final List<String> wildcards;
+
+        final String[] prefixes;
+
+        final RequestBodyHandler[] wildcardHandlers;
+
+        private Snapshot(List<String> types, Map<String, RequestBodyHandler> handlers) {
+            this.types = types;
+            this.handlers = handlers;
+
+            Map<String, RequestBodyHandler> exact = new HashMap<>();
+            List<String> wildcards = new ArrayList<>();
+            for (String type : types) {
+                if (type.endsWith("/*")) {
+                    wildcards.add(type);
+                } else {
+                    exact.put(type, handlers.get(type));
+                }
+            }
+            this.exact = exact;
+            this.wildcards = wildcards;
+            this.prefixes = new String[wildcards.size()];
+            this.wildcardHandlers = new RequestBodyHandler[wildcards.size()];
+            for (int i = 0; i < wildcards.size(); i++) {
+                String wildcard = wildcards.get(i);
+                prefixes[i] = wildcard.substring(0, wildcard.length() - 1);
+                wildcardHandlers[i] = handlers.get(wildcard);
+            }
+        }
+
+        Snapshot with(String type, RequestBodyHandler handler) {
+            List<String> types = new ArrayList<>(this.types);
+            if (!this.handlers.containsKey(type)) {
+                types.add(type);
+            }
+            Map<String, RequestBodyHandler> handlers = new HashMap<>(this.handlers);
+            handlers.put(type, handler);
+            return new Snapshot(Collections.unmodifiableList(types), Collections.unmodifiableMap(handlers));
+        }
+
+        Snapshot without(String type) {
+            if (!handlers.containsKey(type)) {
+                return this;
+            }
+            List<String> types = new ArrayList<>(this.types);
+            types.remove(type);
+            Map<String, RequestBodyHandler> handlers = new HashMap<>(this.handlers);
+            handlers.remove(type);
+            return new Snapshot(Collections.unmodifiableList(types), Collections.unmodifiableMap(handlers));
+        }
+    }
+}
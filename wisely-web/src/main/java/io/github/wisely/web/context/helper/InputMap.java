@@ -0,0 +1,120 @@
+package io.github.wisely.web.context.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.wisely.core.data.helper.JsonHelper;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 请求参数集合
+ * <p>
+ * JSON 请求体以 {@link ObjectNode} 形式挂载，字段在首次 get 时才转换为 Map / List / 基本类型并缓存；
+ * 遍历、序列化等需要全部字段的操作会一次性转换剩余字段。后挂载的请求体字段覆盖已有的同名参数，
+ * 之后 put 的值覆盖请求体字段。非线程安全，与请求对象同生命周期。
+ * </p>
+ */
+final class InputMap extends AbstractMap<String, Object> {
+
+    /**
+     * 已转换的参数
+     */
+    private final Map<String, Object> values = new HashMap<>();
+
+    /**
+     * 尚未转换的请求体字段
+     */
+    private ObjectNode pending;
+
+
+    /**
+     * 挂载 JSON 请求体
+     *
+     * @param body JSON 对象
+     */
+    void attach(ObjectNode body) {
+        if (body.isEmpty()) {
+            return;
+        }
+        materialize();
+        for (Iterator<String> it = body.fieldNames(); it.hasNext(); ) {
+            values.remove(it.next());
+        }
+        pending = body;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (pending != null && key instanceof String name) {
+            JsonNode node = pending.remove(name);
+            if (node != null) {
+                Object value = JsonHelper.copyTo(node, Object.class);
+                values.put(name, value);
+                return value;
+            }
+        }
+        return values.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key) || (pending != null && key instanceof String name && pending.has(name));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (pending != null && pending.has(key)) {
+            get(key);
+        }
+        return values.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        // 先经 get 转换未转换的字段，保证返回被移除的值
+        if (pending != null) {
+            get(key);
+        }
+        return values.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return values.size() + (pending == null ? 0 : pending.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        pending = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        materialize();
+        return values.entrySet();
+    }
+
+    /**
+     * 转换全部剩余字段
+     */
+    private void materialize() {
+        if (pending == null) {
+            return;
+        }
+        ObjectNode body = pending;
+        pending = null;
+        for (Map.Entry<String, JsonNode> field : body.properties()) {
+            values.put(field.getKey(), JsonHelper.copyTo(field.getValue(), Object.class));
+        }
+    }
+}
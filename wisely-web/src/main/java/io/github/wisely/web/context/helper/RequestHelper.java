@@ -1,14 +1,20 @@
 package io.github.wisely.web.context.helper;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Maps;
 import io.github.wisely.core.data.getter.MapProxy;
 import io.github.wisely.core.data.helper.DataHelper;
+import io.github.wisely.core.data.helper.JsonArrayIterator;
 import io.github.wisely.core.data.helper.JsonHelper;
+import io.github.wisely.core.data.helper.ProtoBufHelper;
 import io.github.wisely.core.exception.BaseException;
 import io.github.wisely.core.exception.eum.CommonExceptionEnum;
 import io.github.wisely.core.helper.StringHelper;
 import io.github.wisely.core.helper.ValidHelper;
+import io.github.wisely.core.helper.XmlHelper;
 import io.github.wisely.core.spring.helper.SpringHelper;
 import io.github.wisely.web.context.GlobalRequestWrapper;
 import io.github.wisely.web.context.Result;
@@ -27,14 +33,31 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.util.WebUtils;
 
-import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 
 /**
@@ -46,8 +69,22 @@ public class RequestHelper {
 
     private final static String REQUEST_DATA = "REQUEST_DATA";
 
+    /**
+     * 列表型请求体（如 application/x-ndjson）在请求参数中的键
+     */
+    public final static String BODY_ITEMS = "items";
+
+    private final static String MULTIPART_REQUEST = "MULTIPART_REQUEST";
+
     private final static ThreadLocal<GlobalRequestWrapper> THREAD_LOCAL_MAP = new ThreadLocal<>();
 
+    /**
+     * Multipart 解析器来源，未通过插件设置时按类型从容器查找
+     */
+    private static volatile Supplier<MultipartResolver> MULTIPART_RESOLVER = SpringHelper.lazy(MultipartResolver.class);
+
+    private static final Supplier<MessageConvert> MESSAGE_CONVERT = SpringHelper.lazy(MessageConvert.class);
+
 
     // ================================
     // ThreadLocal 管理
@@ -282,15 +319,16 @@ public class RequestHelper {
             return input;
         }
 
-        input = MapProxy.proxy(Maps.newHashMap());
+        // JSON 请求体的字段在读取时才转换
+        input = MapProxy.proxy(new InputMap());
 
         // 1. 查询参数（URL ?a=1&b=2）
         input.putAll(getInputFromQueryParams(request));
 
         // 2. 判断是否为 Multipart 请求
-        MultipartResolver resolver = SpringHelper.getBean(MultipartResolver.class);
+        MultipartResolver resolver = MULTIPART_RESOLVER.get();
         if (resolver != null && resolver.isMultipart(request)) {
-            input.putAll(getInputFromMultipart(request));
+            input.putAll(getInputFromMultipart(request, resolver));
         }
         // 3. 非 Multipart：交由注册的内容类型处理器处理
         else {
@@ -312,31 +350,35 @@ public class RequestHelper {
         void handle(Map<String, Object> input, HttpServletRequest request);
     }
 
-    private static final Map<String, RequestBodyHandler> BODY_HANDLERS = Maps.newLinkedHashMap();
+    private static final BodyHandlerRegistry BODY_HANDLERS = new BodyHandlerRegistry();
 
     // 静态注册常用处理器
     static {
-        BODY_HANDLERS.put("application/json", RequestHelper::getInputFromJson);
-        // 可在此注册更多默认处理器，如：
-        // BODY_HANDLERS.put("application/xml", RequestHelper::getInputFromXml);
+        BODY_HANDLERS.register("application/json", RequestHelper::getInputFromJson);
+        BODY_HANDLERS.register("application/x-ndjson", RequestHelper::getInputFromNdjson);
+        BODY_HANDLERS.register("application/xml", RequestHelper::getInputFromXml);
+        BODY_HANDLERS.register("text/xml", RequestHelper::getInputFromXml);
     }
 
     /**
      * 请求体处理器注册（支持运行时扩展）
      *
      * @param contentType 请求内容类型
-     *                    例如：application/json
+     *                    例如：application/json、text/*
      * @param handler     处理器函数
      */
     public static void registerBodyHandler(String contentType, RequestBodyHandler handler) {
-        BODY_HANDLERS.put(contentType.toLowerCase(), handler);
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(contentType, "contentType");
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(handler, "handler");
+        BODY_HANDLERS.register(contentType, handler);
     }
 
     /**
      * 移除已注册的处理器
      */
     public static void removeBodyHandler(String contentType) {
-        BODY_HANDLERS.remove(contentType.toLowerCase());
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(contentType, "contentType");
+        BODY_HANDLERS.remove(contentType);
     }
 
     /**
@@ -352,37 +394,15 @@ public class RequestHelper {
             return;
         }
 
-        String mainType = extractMainContentType(contentType);
-
-        BODY_HANDLERS.entrySet().stream()
-                .filter(entry -> matchesContentType(mainType, entry.getKey()))
-                .findFirst()
-                .ifPresent(entry -> {
-                    try {
-                        entry.getValue().handle(input.toMap(), request);
-                    } catch (Exception e) {
-                        log.warn("Failed to handle request body for Content-Type: {}", entry.getKey(), e);
-                    }
-                });
-    }
-
-    /**
-     * 提取主类型，如 "application/json; charset=UTF-8" → "application/json"
-     *
-     * @param contentType 内容类型
-     */
-    private static String extractMainContentType(String contentType) {
-        return contentType.split(";")[0].trim().toLowerCase();
-    }
-
-    /**
-     * 匹配 Content-Type（支持通配符，如 text/*）
-     */
-    private static boolean matchesContentType(String actual, String expected) {
-        if (expected.endsWith("/*")) {
-            return actual.startsWith(expected.substring(0, expected.length() - 1));
+        Map.Entry<String, RequestBodyHandler> entry = BODY_HANDLERS.match(contentType);
+        if (entry == null) {
+            return;
+        }
+        try {
+            entry.getValue().handle(input.toMap(), request);
+        } catch (Exception e) {
+            log.warn("Failed to handle request body for Content-Type: {}", entry.getKey(), e);
         }
-        return actual.equals(expected);
     }
 
     // ================================
@@ -399,33 +419,175 @@ public class RequestHelper {
         return new GlobalRequestWrapper(request);
     }
 
+    @FunctionalInterface
+    private interface BodyReader {
+        void read(GlobalRequestWrapper wrapper) throws Exception;
+    }
+
+    /**
+     * 读取请求体，异常时记录日志并忽略
+     *
+     * @param request 请求对象
+     * @param format  请求体格式，用于日志
+     * @param reader  读取逻辑
+     */
+    private static void readBody(HttpServletRequest request, String format, BodyReader reader) {
+        GlobalRequestWrapper wrapper = getOrCreateWrapper(request);
+        try {
+            reader.read(wrapper);
+        } catch (Exception e) {
+            log.warn("Failed to parse {} request body", format, e);
+        } finally {
+            // 临时创建的包装器不会由 GlobalFilter 释放
+            if (wrapper != request) {
+                wrapper.release();
+            }
+        }
+    }
+
     /**
      * 解析 application/json 请求体
      */
     private static void getInputFromJson(Map<String, Object> input, HttpServletRequest request) {
-        try {
-            GlobalRequestWrapper wrapper = getOrCreateWrapper(request);
-            try (BufferedReader reader = wrapper.getReader()) {
-                StringBuilder body = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    body.append(line);
+        readBody(request, "JSON", wrapper -> {
+            // 直接按字节解析（Jackson 自动识别 UTF-8/16/32），内存缓存时不复制请求体；声明了其他字符集时按字符集解码
+            JsonNode body;
+            String encoding = request.getCharacterEncoding();
+            ByteBuffer cached = wrapper.getCachedBody();
+            if (encoding != null && !Strings.CI.startsWithAny(encoding, "UTF-8", "UTF8", "UTF-16", "UTF-32")) {
+                StringWriter text = new StringWriter();
+                try (Reader reader = wrapper.getReader()) {
+                    reader.transferTo(text);
+                }
+                body = JsonHelper.json2Obj(text.toString(), JsonNode.class);
+            } else if (cached != null) {
+                body = JsonHelper.json2Obj(cached, JsonNode.class);
+            } else {
+                try (InputStream in = wrapper.getInputStream()) {
+                    body = JsonHelper.json2Obj(in, JsonNode.class);
                 }
-                String content = body.toString().trim();
-                if (content.isEmpty()) {
-                    return;
+            }
+
+            if (body == null || body.isMissingNode() || body.isNull()) {
+                return;
+            }
+            if (!(body instanceof ObjectNode object)) {
+                log.warn("JSON request body is not an object: {}", body.getNodeType());
+                return;
+            }
+            if (input instanceof InputMap inputMap) {
+                inputMap.attach(object);
+            } else {
+                input.putAll(JsonHelper.copyTo(object, new TypeReference<Map<String, Object>>() {
+                }));
+            }
+        });
+    }
+
+    /**
+     * 解析 application/x-ndjson 请求体，逐行读取，结果列表放入 {@link #BODY_ITEMS}
+     */
+    private static void getInputFromNdjson(Map<String, Object> input, HttpServletRequest request) {
+        readBody(request, "NDJSON", wrapper -> {
+            List<Object> items = new ArrayList<>();
+            try (InputStream in = wrapper.getInputStream();
+                 JsonArrayIterator<Object> it = JsonHelper.iterateValues(in, Object.class)) {
+                it.forEachRemaining(items::add);
+            }
+            input.put(BODY_ITEMS, items);
+        });
+    }
+
+    /**
+     * 解析 application/xml、text/xml 请求体，根元素的属性与子元素作为参数（禁止 DOCTYPE）
+     */
+    private static void getInputFromXml(Map<String, Object> input, HttpServletRequest request) {
+        readBody(request, "XML", wrapper -> {
+            try (InputStream in = wrapper.getInputStream()) {
+                input.putAll(XmlHelper.toMap(XmlHelper.readUntrusted(in).getRootElement()));
+            }
+        });
+    }
+
+    /**
+     * 创建 application/x-protobuf 请求体处理器，默认不注册，需通过 {@link #registerBodyHandler} 显式启用
+     * <p>
+     * 请求体按 type 的固定 Schema 解析（{@link ProtoBufHelper#serialize(Object)} 序列化的该类型对象），字段作为参数。
+     * type 及其字段不能含 Object、接口、抽象类等多态类型，否则解析时会按请求体中的类名实例化任意类。
+     * </p>
+     * 例如：{@code RequestHelper.registerBodyHandler("application/x-protobuf", RequestHelper.protobufBodyHandler(OrderForm.class))}
+     *
+     * @param type 请求体类型
+     * @return 处理器
+     */
+    public static RequestBodyHandler protobufBodyHandler(Class<?> type) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(type, "type");
+        CommonExceptionEnum.PARAMETER_INVALID.assertTrue(!Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && !type.isArray() && isFixedSchema(type, new HashSet<>()), type.getName());
+        return (input, request) -> readBody(request, "Protobuf", wrapper -> {
+            Object body;
+            ByteBuffer cached = wrapper.getCachedBody();
+            if (cached != null) {
+                body = ProtoBufHelper.deserialize(type, cached);
+            } else {
+                try (InputStream in = wrapper.getInputStream()) {
+                    body = ProtoBufHelper.deserialize(type, in);
                 }
+            }
+            if (body != null) {
+                input.putAll(JsonHelper.copyTo(body, new TypeReference<Map<String, Object>>() {
+                }));
+            }
+        });
+    }
 
-                Map<String, Object> map =
-                        JsonHelper.json2Obj(content, new TypeReference<>() {
-                        });
-                if (map != null) {
-                    input.putAll(map);
+    /**
+     * 类型的 Schema 是否固定：不含 Object、接口、抽象类及未确定的泛型，集合与 Map 检查元素类型
+     *
+     * @param type    类型
+     * @param visited 已检查的类
+     */
+    private static boolean isFixedSchema(Type type, Set<Class<?>> visited) {
+        if (type instanceof ParameterizedType parameterized) {
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            if (Collection.class.isAssignableFrom(raw) || Map.class.isAssignableFrom(raw)) {
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    if (!isFixedSchema(argument, visited)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return isFixedSchema(raw, visited);
+        }
+        if (!(type instanceof Class<?> clazz)) {
+            return false;
+        }
+        if (clazz.isArray()) {
+            return isFixedSchema(clazz.getComponentType(), visited);
+        }
+        if (clazz.isPrimitive() || clazz.isEnum() || clazz == String.class || clazz == Boolean.class || clazz == Character.class
+                || clazz == BigDecimal.class || clazz == BigInteger.class || clazz == Date.class
+                || Number.class.isAssignableFrom(clazz) && clazz.getName().startsWith("java.lang.")) {
+            return true;
+        }
+        // 原始集合类型的元素为 Object
+        if (clazz == Object.class || clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())
+                || Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        if (!visited.add(clazz)) {
+            return true;
+        }
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !isFixedSchema(field.getGenericType(), visited)) {
+                    return false;
                 }
             }
-        } catch (Exception e) {
-            log.warn("Failed to parse JSON request body", e);
         }
+        return true;
     }
 
     /**
@@ -449,16 +611,11 @@ public class RequestHelper {
      *
      * @param request 请求对象
      */
-    private static Map<String, Object> getInputFromMultipart(HttpServletRequest request) {
+    private static Map<String, Object> getInputFromMultipart(HttpServletRequest request, MultipartResolver resolver) {
         Map<String, Object> result = Maps.newHashMap();
 
-        MultipartResolver resolver = SpringHelper.getBean(MultipartResolver.class);
-        if (resolver == null || !resolver.isMultipart(request)) {
-            return result;
-        }
-
         try {
-            MultipartHttpServletRequest multipartRequest = resolver.resolveMultipart(request);
+            MultipartHttpServletRequest multipartRequest = resolveMultipart(request, resolver);
 
             // 文件字段
             multipartRequest.getMultiFileMap().forEach((key, files) -> {
@@ -479,6 +636,52 @@ public class RequestHelper {
     }
 
 
+    /**
+     * 获取已解析的 Multipart 请求，均未解析时才调用 resolver 解析并缓存到请求属性
+     * <p>
+     * 依次查找：请求本身或其包装链中的 MultipartHttpServletRequest、
+     * {@link #bindMultipartRequest} 绑定的 DispatcherServlet 解析结果、此前由本类解析的结果。
+     * </p>
+     *
+     * @param request  请求对象
+     * @param resolver Multipart 解析器
+     * @return Multipart 请求
+     */
+    private static MultipartHttpServletRequest resolveMultipart(HttpServletRequest request, MultipartResolver resolver) {
+        MultipartHttpServletRequest resolved = WebUtils.getNativeRequest(request, MultipartHttpServletRequest.class);
+        if (resolved != null) {
+            return resolved;
+        }
+        if (request.getAttribute(MULTIPART_REQUEST) instanceof MultipartHttpServletRequest cached) {
+            return cached;
+        }
+        resolved = resolver.resolveMultipart(request);
+        request.setAttribute(MULTIPART_REQUEST, resolved);
+        return resolved;
+    }
+
+    /**
+     * 绑定 DispatcherServlet 已解析的 Multipart 请求，避免 {@link #getInput()} 重复解析
+     *
+     * @param request 请求对象，非 MultipartHttpServletRequest 时忽略
+     */
+    public static void bindMultipartRequest(HttpServletRequest request) {
+        if (request instanceof MultipartHttpServletRequest) {
+            request.setAttribute(MULTIPART_REQUEST, request);
+        }
+    }
+
+    /**
+     * 设置 Multipart 解析器来源，首次使用时获取一次并缓存
+     *
+     * @param resolver 解析器来源，可返回 null（不支持 Multipart）
+     */
+    public static void setMultipartResolver(Supplier<MultipartResolver> resolver) {
+        CommonExceptionEnum.PARAMETER_REQUIRED.assertNotNull(resolver, "resolver");
+        MULTIPART_RESOLVER = Suppliers.memoize(resolver::get);
+    }
+
+
     // ================================
     // 响应输出
     // ================================
@@ -498,11 +701,9 @@ public class RequestHelper {
 
         try (PrintWriter out = response.getWriter()) {
             // 国际化消息转换
-            if (SpringHelper.hasBean(MessageConvert.class)) {
-                MessageConvert converter = SpringHelper.getBean(MessageConvert.class);
-                if (converter != null) {
-                    message = converter.messageConvert(message, params);
-                }
+            MessageConvert converter = MESSAGE_CONVERT.get();
+            if (converter != null) {
+                message = converter.messageConvert(message, params);
             }
 
             response.setCharacterEncoding("UTF-8");
@@ -2,12 +2,21 @@ package io.github.wisely.web.context.plugins;
 
 import io.github.wisely.core.plugin.AbstractPlugin;
 import io.github.wisely.web.context.GlobalFilter;
+import io.github.wisely.web.context.helper.RequestHelper;
+import jakarta.annotation.Nonnull;
 import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * GlobalFilter插件
@@ -33,9 +42,33 @@ public class GlobalFilterPlugin extends AbstractPlugin {
     public FilterRegistrationBean<Filter> frameworkFilterBean(GlobalFilterProperties frameworkFilterProperties) {
         FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
         filterRegistrationBean.setBeanName("frameworkFilterBean");
-        filterRegistrationBean.setFilter(new GlobalFilter());//设置为自定义的过滤器MyFilter
+        filterRegistrationBean.setFilter(new GlobalFilter(frameworkFilterProperties));//设置为自定义的过滤器MyFilter
         filterRegistrationBean.addUrlPatterns(frameworkFilterProperties.getPatterns());//拦截所有请求
         filterRegistrationBean.setOrder(frameworkFilterProperties.getOrder());//优先级为0
         return filterRegistrationBean;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * 缓存 MultipartResolver，并将 DispatcherServlet 解析的 Multipart 请求绑定给 RequestHelper 复用
+     * <p>
+     * 文件落盘阈值、临时目录由 spring.servlet.multipart.file-size-threshold / location 配置
+     * </p>
+     */
+    @Bean
+    public WebMvcConfigurer multipartRequestBinder(ObjectProvider<MultipartResolver> multipartResolvers) {
+        RequestHelper.setMultipartResolver(multipartResolvers::getIfAvailable);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@Nonnull InterceptorRegistry registry) {
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull Object handler) {
+                        RequestHelper.bindMultipartRequest(request);
+                        return true;
+                    }
+                });
+            }
+        };
+    }
+}
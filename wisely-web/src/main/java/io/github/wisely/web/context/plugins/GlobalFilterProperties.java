@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
 
 
 @ConfigurationProperties(prefix = "plugins.filter.global")
@@ -27,4 +28,36 @@ public class GlobalFilterProperties {
      * filter排序
      */
     private Integer order = Ordered.HIGHEST_PRECEDENCE + 1000;
+
+    /**
+     * 不缓存请求体的路径（Ant 风格，不含 context-path）
+     */
+    private String[] excludePaths = {};
+
+    /**
+     * 不缓存请求体的 Content-Type，支持 xxx/* 通配
+     * 默认排除 multipart/*，由 MultipartResolver 直接读取原始请求
+     */
+    private String[] excludeContentTypes = {"multipart/*"};
+
+    /**
+     * 请求体缓存
+     */
+    private Body body = new Body();
+
+
+    @Setter
+    @Getter
+    public static class Body {
+
+        /**
+         * 内存缓存上限，超过后转存到临时文件
+         */
+        private DataSize memoryThreshold = DataSize.ofMegabytes(1);
+
+        /**
+         * 临时文件目录，默认使用系统临时目录
+         */
+        private String spillDirectory;
+    }
 }
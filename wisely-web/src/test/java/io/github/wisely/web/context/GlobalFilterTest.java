@@ -0,0 +1,80 @@
+package io.github.wisely.web.context;
+
+import io.github.wisely.web.context.plugins.GlobalFilterProperties;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+public class GlobalFilterTest {
+
+
+    private static GlobalRequestWrapper filter(GlobalFilter filter, MockHttpServletRequest request) throws IOException, ServletException {
+        AtomicReference<GlobalRequestWrapper> wrapper = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            GlobalRequestWrapper current = (GlobalRequestWrapper) req;
+            // 缓存请求体后原始流已读完，仍可重复读取
+            current.getCachedBody();
+            Assertions.assertEquals(100, current.getInputStream().readAllBytes().length);
+            Assertions.assertEquals(100, current.getInputStream().readAllBytes().length);
+            wrapper.set(current);
+        });
+        return wrapper.get();
+    }
+
+    private static MockHttpServletRequest request(String uri, String contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(contentType);
+        request.setContent("0123456789".repeat(10).getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static long count(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+
+    @Test
+    public void excludeTest(@TempDir Path directory) throws IOException, ServletException {
+        GlobalFilterProperties properties = new GlobalFilterProperties();
+        properties.setExcludePaths(new String[]{"/upload/**"});
+        properties.setExcludeContentTypes(new String[]{"multipart/*", "application/octet-stream"});
+        properties.getBody().setMemoryThreshold(DataSize.ofBytes(16));
+        properties.getBody().setSpillDirectory(directory.toString());
+        GlobalFilter filter = new GlobalFilter(properties);
+
+        // 转存临时文件，请求结束后删除
+        GlobalRequestWrapper wrapper = filter(filter, request("/order", "application/json"));
+        Assertions.assertTrue(wrapper.isBodyCached());
+        Assertions.assertEquals(0, count(directory));
+
+        // 排除的路径、Content-Type 不缓存请求体，第二次读取为空
+        for (MockHttpServletRequest request : new MockHttpServletRequest[]{
+                request("/upload/file", "application/json"),
+                request("/order", "multipart/form-data; boundary=x"),
+                request("/order", "Application/Octet-Stream")}) {
+            AtomicReference<GlobalRequestWrapper> excluded = new AtomicReference<>();
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                GlobalRequestWrapper current = (GlobalRequestWrapper) req;
+                Assertions.assertNull(current.getCachedBody());
+                Assertions.assertEquals(100, current.getInputStream().readAllBytes().length);
+                Assertions.assertEquals(0, current.getInputStream().readAllBytes().length);
+                excluded.set(current);
+            });
+            Assertions.assertFalse(excluded.get().isBodyCached());
+        }
+        Assertions.assertEquals(0, count(directory));
+    }
+}
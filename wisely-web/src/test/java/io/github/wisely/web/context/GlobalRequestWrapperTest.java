@@ -0,0 +1,177 @@
+package io.github.wisely.web.context;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class GlobalRequestWrapperTest {
+
+
+    /**
+     * 与容器一致：表单参数在首次访问时从请求体解析，请求体已被读取时解析不到
+     */
+    static class FormRequest extends MockHttpServletRequest {
+
+        private Map<String, String[]> form;
+
+        FormRequest(String body) {
+            super("POST", "/form");
+            setContentType("application/x-www-form-urlencoded; charset=UTF-8");
+            setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            if (form == null) {
+                form = new HashMap<>();
+                try {
+                    String body = new String(super.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                    for (String pair : body.split("&")) {
+                        String[] kv = pair.split("=", 2);
+                        if (kv.length == 2) {
+                            form.put(kv[0], new String[]{kv[1]});
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return form;
+        }
+    }
+
+
+    @Test
+    public void formTest() throws IOException {
+        // 先读取请求体（如日志过滤器），再获取表单参数
+        GlobalRequestWrapper wrapper = new GlobalRequestWrapper(new FormRequest("name=wisely&age=18"));
+        wrapper.getInputStream().readAllBytes();
+        Assertions.assertEquals("wisely", wrapper.getParameter("name"));
+        Assertions.assertEquals("18", wrapper.getParameter("age"));
+        wrapper.release();
+
+        // 先获取表单参数，再读取请求体
+        wrapper = new GlobalRequestWrapper(new FormRequest("name=wisely"));
+        Assertions.assertEquals("wisely", wrapper.getParameter("name"));
+        wrapper.release();
+    }
+
+    @Test
+    public void readListenerTest() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/json");
+        request.setContent("{\"name\":\"wisely\"}".getBytes(StandardCharsets.UTF_8));
+        request.setAsyncSupported(true);
+        GlobalRequestWrapper wrapper = new GlobalRequestWrapper(request);
+        ServletInputStream input = wrapper.getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        boolean[] done = new boolean[1];
+        ReadListener listener = new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                input.transferTo(received);
+            }
+
+            @Override
+            public void onAllDataRead() {
+                done[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                Assertions.fail(t);
+            }
+        };
+
+        // 未开启异步处理时不可设置
+        Assertions.assertThrows(IllegalStateException.class, () -> input.setReadListener(listener));
+
+        // 回调交由 AsyncContext 执行
+        wrapper.startAsync();
+        input.setReadListener(listener);
+        Assertions.assertTrue(done[0]);
+        Assertions.assertEquals("{\"name\":\"wisely\"}", received.toString(StandardCharsets.UTF_8));
+        wrapper.release();
+    }
+
+
+    /**
+     * 未声明长度的请求（如分块传输）
+     */
+    static class ChunkedRequest extends MockHttpServletRequest {
+
+        ChunkedRequest(byte[] body) {
+            super("POST", "/chunked");
+            setContent(body);
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+    }
+
+
+    @Test
+    public void spillTest(@TempDir Path directory) throws IOException {
+        byte[] body = "0123456789".repeat(10).getBytes(StandardCharsets.UTF_8);
+        GlobalRequestWrapper.BodyCaching caching = new GlobalRequestWrapper.BodyCaching(true, 16, directory);
+
+        MockHttpServletRequest declared = new MockHttpServletRequest("POST", "/declared");
+        declared.setContent(body);
+        for (MockHttpServletRequest request : List.of(declared, new ChunkedRequest(body))) {
+            GlobalRequestWrapper wrapper = new GlobalRequestWrapper(request, caching);
+
+            // 超过内存阈值转存到临时文件，可重复读取
+            Assertions.assertNull(wrapper.getCachedBody());
+            Assertions.assertTrue(wrapper.isBodyCached());
+            try (Stream<Path> files = Files.list(directory)) {
+                Assertions.assertEquals(1, files.count());
+            }
+            Assertions.assertArrayEquals(body, wrapper.getInputStream().readAllBytes());
+            Assertions.assertArrayEquals(body, wrapper.getInputStream().readAllBytes());
+            Assertions.assertEquals("0123456789".repeat(10), wrapper.getReader().readLine());
+
+            // 释放时关闭未关闭的流并删除临时文件
+            ServletInputStream unclosed = wrapper.getInputStream();
+            Assertions.assertEquals('0', unclosed.read());
+            wrapper.release();
+            Assertions.assertThrows(IOException.class, unclosed::read);
+            try (Stream<Path> files = Files.list(directory)) {
+                Assertions.assertEquals(0, files.count());
+            }
+            Assertions.assertThrows(IOException.class, wrapper::getInputStream);
+        }
+
+        // 未超过阈值时保存在内存
+        MockHttpServletRequest small = new MockHttpServletRequest("POST", "/small");
+        small.setContent("0123456789".getBytes(StandardCharsets.UTF_8));
+        for (MockHttpServletRequest request : List.of(small, new ChunkedRequest("0123456789".getBytes(StandardCharsets.UTF_8)))) {
+            GlobalRequestWrapper wrapper = new GlobalRequestWrapper(request, caching);
+            Assertions.assertEquals(10, wrapper.getCachedBody().remaining());
+            Assertions.assertArrayEquals(wrapper.getInputStream().readAllBytes(), wrapper.getInputStream().readAllBytes());
+            wrapper.release();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.wisely.web.context.helper;
+
+import io.github.wisely.web.context.helper.RequestHelper.RequestBodyHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class BodyHandlerRegistryTest {
+
+
+    private static final RequestBodyHandler TEXT = (input, request) -> {
+    };
+
+    private static final RequestBodyHandler PLAIN = (input, request) -> {
+    };
+
+    private static final RequestBodyHandler REPLACED = (input, request) -> {
+    };
+
+
+    @Test
+    public void matchTest() {
+        BodyHandlerRegistry registry = new BodyHandlerRegistry();
+        // 通配类型先注册，精确类型仍优先
+        registry.register("text/*", TEXT);
+        registry.register(" Text/Plain ", PLAIN);
+
+        Assertions.assertEquals(Map.entry("text/plain", PLAIN), registry.match("text/plain"));
+        Assertions.assertEquals(Map.entry("text/*", TEXT), registry.match("text/html"));
+        Assertions.assertNull(registry.match("application/json"));
+
+        // 带参数、大小写混合的请求头
+        Assertions.assertEquals("text/plain", BodyHandlerRegistry.mainType(" TEXT/Plain ; charset=UTF-8"));
+        Assertions.assertEquals(Map.entry("text/plain", PLAIN), registry.match("Text/PLAIN;charset=GBK"));
+        Assertions.assertEquals(Map.entry("text/*", TEXT), registry.match("text/csv; header=present"));
+    }
+
+
+    @Test
+    public void registerTest() {
+        BodyHandlerRegistry registry = new BodyHandlerRegistry();
+        registry.register("text/*", TEXT);
+        registry.register("text/plain", PLAIN);
+
+        // 替换已存在的类型
+        registry.register("TEXT/*", REPLACED);
+        Assertions.assertEquals(Map.entry("text/*", REPLACED), registry.match("text/html"));
+        Assertions.assertEquals(Map.entry("text/plain", PLAIN), registry.match("text/plain"));
+
+        // 移除精确类型后回落到通配类型，移除不存在的类型无影响
+        registry.remove(" Text/Plain");
+        registry.remove("application/json");
+        Assertions.assertEquals(Map.entry("text/*", REPLACED), registry.match("text/plain"));
+        registry.remove("text/*");
+        Assertions.assertNull(registry.match("text/plain"));
+
+        // 移除后重新注册
+        registry.register("text/plain", PLAIN);
+        Assertions.assertEquals(Map.entry("text/plain", PLAIN), registry.match("text/plain"));
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.wisely.web.context.helper;
+
+import io.github.wisely.core.data.getter.MapProxy;
+import io.github.wisely.core.data.helper.ProtoBufHelper;
+import io.github.wisely.core.exception.BaseException;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+public class RequestHelperTest {
+
+
+    @Getter
+    @Setter
+    public static class OrderForm {
+        private String name;
+        private int count;
+        private List<String> tags;
+    }
+
+    @Getter
+    @Setter
+    public static class AnyForm {
+        private Map<String, Object> data;
+    }
+
+
+    private static MockHttpServletRequest request(String contentType, byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/input");
+        request.setContentType(contentType);
+        request.setContent(body);
+        return request;
+    }
+
+
+    @Test
+    public void protobufTest() {
+        OrderForm form = new OrderForm();
+        form.setName("wisely");
+        form.setCount(2);
+        form.setTags(List.of("a", "b"));
+        MockHttpServletRequest request = request("application/x-protobuf", ProtoBufHelper.serialize(form));
+
+        // 默认不解析 protobuf 请求体
+        Assertions.assertNull(RequestHelper.getInput(request).get("name"));
+
+        // 含多态字段的类型不能作为请求体类型
+        Assertions.assertThrows(BaseException.class, () -> RequestHelper.protobufBodyHandler(AnyForm.class));
+        Assertions.assertThrows(BaseException.class, () -> RequestHelper.protobufBodyHandler(Map.class));
+
+        RequestHelper.registerBodyHandler("application/x-protobuf", RequestHelper.protobufBodyHandler(OrderForm.class));
+        try {
+            MapProxy<String, Object> input = RequestHelper.getInput(request, true);
+            Assertions.assertEquals("wisely", input.get("name"));
+            Assertions.assertEquals(2, input.get("count"));
+            Assertions.assertEquals(List.of("a", "b"), input.get("tags"));
+        } finally {
+            RequestHelper.removeBodyHandler("application/x-protobuf");
+        }
+    }
+
+
+    @Test
+    public void ndjsonTest() {
+        MockHttpServletRequest request = request("application/x-ndjson",
+                "{\"id\":1}\n{\"id\":2}\n\n".getBytes(StandardCharsets.UTF_8));
+        List<?> items = (List<?>) RequestHelper.getInput(request).get(RequestHelper.BODY_ITEMS);
+        Assertions.assertEquals(List.of(Map.of("id", 1), Map.of("id", 2)), items);
+    }
+
+
+    @Test
+    public void xmlTest() {
+        MockHttpServletRequest request = request("Application/XML; charset=UTF-8",
+                "<order id=\"1\"><name>wisely</name><tag>a</tag><tag>b</tag></order>".getBytes(StandardCharsets.UTF_8));
+        request.addParameter("from", "query");
+        MapProxy<String, Object> input = RequestHelper.getInput(request);
+        Assertions.assertEquals("1", input.get("id"));
+        Assertions.assertEquals("wisely", input.get("name"));
+        Assertions.assertEquals(List.of("a", "b"), input.get("tag"));
+        Assertions.assertEquals("query", input.get("from"));
+
+        // 含 DOCTYPE 的请求体不解析，仅保留查询参数
+        request = request("text/xml", ("<?xml version=\"1.0\"?><!DOCTYPE order [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+                + "<order><name>&xxe;</name></order>").getBytes(StandardCharsets.UTF_8));
+        request.addParameter("from", "query");
+        input = RequestHelper.getInput(request);
+        Assertions.assertNull(input.get("name"));
+        Assertions.assertEquals("query", input.get("from"));
+    }
+}